@@ -16,10 +16,8 @@ export const useAccountSummary = (userId?: string) => {
   const effectiveUserId = userId || currentUserId;
   return useQuery({
     queryKey: ['accountSummary', effectiveUserId],
-    queryFn: async () => {
-      const accounts = await dashboardService.getAccounts(effectiveUserId);
-      return dashboardService.getAccountSummary(accounts);
-    },
+    queryFn: () => dashboardService.getAccountSummary(),
+    enabled: !!effectiveUserId,
   });
 };
 
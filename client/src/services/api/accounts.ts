@@ -21,6 +21,15 @@ export interface AccountSummary {
   };
 }
 
+// Shape returned by GET /api/accounts/summary
+interface ServerAccountSummary {
+  totalAssets: number;
+  totalLiabilities: number;
+  netWorth: number;
+  accountCount: number;
+  accountBreakdown: Record<string, number>;
+}
+
 export const accountsService = {
   /**
    * Get all accounts for a user
@@ -43,46 +52,22 @@ export const accountsService = {
    * Get account summary/totals
    */
   async getAccountSummary(userId: string = 'user-id'): Promise<AccountSummary> {
-    try {
-      const accounts = await this.getAccounts(userId);
-      
-      let totalAssets = 0;
-      let totalLiabilities = 0;
-      const byType = {
-        checking: 0,
-        savings: 0,
-        credit: 0,
-        investment: 0,
-        loan: 0
-      };
-
-      accounts.forEach(account => {
-        const balance = account.balance || 0;
-        
-        // Calculate assets vs liabilities
-        if (['checking', 'savings', 'investment'].includes(account.accountType)) {
-          totalAssets += balance;
-        } else if (['credit', 'loan'].includes(account.accountType)) {
-          totalLiabilities += Math.abs(balance);
-        }
+    const response = await apiClient.get<{ success: boolean; data: ServerAccountSummary }>('/api/accounts/summary');
+    const { totalAssets, totalLiabilities, netWorth, accountCount, accountBreakdown } = response.data.data;
 
-        // Sum by account type
-        if (account.accountType in byType) {
-          byType[account.accountType as keyof typeof byType] += balance;
-        }
-      });
-
-      return {
-        totalAssets,
-        totalLiabilities,
-        netWorth: totalAssets - totalLiabilities,
-        accountCount: accounts.length,
-        byType
-      };
-    } catch (error) {
-      console.error('Error calculating account summary:', error);
-      throw error;
-    }
+    return {
+      totalAssets,
+      totalLiabilities,
+      netWorth,
+      accountCount,
+      byType: {
+        checking: accountBreakdown.checking ?? 0,
+        savings: accountBreakdown.savings ?? 0,
+        credit: accountBreakdown.credit ?? 0,
+        investment: accountBreakdown.investment ?? 0,
+        loan: accountBreakdown.loan ?? 0,
+      },
+    };
   },
 
   /**
@@ -6,8 +6,10 @@ export interface ApiResponse<T = any> {
   pagination?: {
     page: number;
     limit: number;
-    total: number;
+    total: number | null;
+    totalEstimated?: boolean;
     hasMore: boolean;
+    nextCursor?: string | null;
   };
 }
 
@@ -1,6 +1,14 @@
 // client/src/services/api/dashboard.ts - Fixed API paths
-import type { TransactionDTO, AccountDTO, AccountSummary } from '../../types';
+import type {
+  TransactionDTO,
+  AccountDTO,
+  AccountSummary,
+  DashboardData,
+  DashboardSummary,
+  DateRange,
+} from '../../types';
 import { getAuthHeaders } from './authToken';
+import { plaidService } from './plaid';
 
 class DashboardService {
   private baseURL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:3001';
@@ -20,6 +28,51 @@ class DashboardService {
     return Array.isArray(data.data) ? data.data : [];
   }
 
+  // Totals, category breakdown and monthly trends are aggregated server-side
+  async getSummary(dateRange?: DateRange): Promise<DashboardSummary> {
+    const params = new URLSearchParams();
+
+    if (dateRange?.startDate) params.append('startDate', dateRange.startDate);
+    if (dateRange?.endDate) params.append('endDate', dateRange.endDate);
+
+    const response = await fetch(`${this.baseURL}/api/dashboard/summary?${params}`, {
+      headers: await getAuthHeaders(),
+    });
+    const data = await response.json();
+    if (!response.ok || !data.success) {
+      throw new Error(data.error || 'Failed to load dashboard summary');
+    }
+
+    return data.data;
+  }
+
+  async getDashboardData(userId: string, dateRange?: DateRange): Promise<DashboardData> {
+    const [summary, accounts, transactions, { accountBreakdown }] = await Promise.all([
+      this.getSummary(dateRange),
+      this.getAccounts(userId),
+      this.getTransactions(userId, { ...dateRange, limit: 10 }),
+      this.getAccountSummary(),
+    ]);
+    const monthlyTrends = summary.monthlyTrends.map(trend => ({
+      ...trend,
+      monthName: new Date(`${trend.month}-01T00:00:00`).toLocaleString('default', { month: 'short', year: 'numeric' }),
+    }));
+
+    return {
+      transactions,
+      accounts,
+      summary: {
+        ...summary,
+        monthlyTrends,
+        checkingBalance: accountBreakdown.checking,
+        savingsBalance: accountBreakdown.savings,
+        creditCardDebt: Math.abs(accountBreakdown.credit),
+        investmentValue: accountBreakdown.investment,
+      },
+      monthlyTrends,
+    };
+  }
+
   async getAccounts(userId: string): Promise<AccountDTO[]> {
     const response = await fetch(`${this.baseURL}/api/plaid/accounts/${userId}`, {
       headers: await getAuthHeaders(),
@@ -29,38 +82,21 @@ class DashboardService {
     return Array.isArray(data.data) ? data.data : [];
   }
 
-  async getAccountSummary(accounts: AccountDTO[]): Promise<AccountSummary> {
-    let totalAssets = 0;
-    let totalLiabilities = 0;
-    const breakdown = { checking: 0, savings: 0, credit: 0, investment: 0, loan: 0 };
-
-    accounts.forEach(account => {
-      const balance = account.balance || 0;
-      breakdown[account.accountType as keyof typeof breakdown] += balance;
-      
-      if (account.accountType === 'credit' || account.accountType === 'loan') {
-        totalLiabilities += Math.abs(balance);
-      } else {
-        totalAssets += balance;
-      }
+  // Computed and cached server-side over active, visible accounts
+  async getAccountSummary(): Promise<AccountSummary> {
+    const response = await fetch(`${this.baseURL}/api/accounts/summary`, {
+      headers: await getAuthHeaders(),
     });
+    const data = await response.json();
+    if (!response.ok || !data.success) {
+      throw new Error(data.error || 'Failed to load account summary');
+    }
 
-    return {
-      netWorth: totalAssets - totalLiabilities,
-      totalAssets,
-      totalLiabilities,
-      accountBreakdown: breakdown
-    };
+    return data.data;
   }
 
   async syncTransactions(userId: string) {
-    const response = await fetch(`${this.baseURL}/api/plaid/sync_transactions`, {
-      method: 'POST',
-      headers: { 'Content-Type': 'application/json', ...(await getAuthHeaders()) },
-      body: JSON.stringify({ userId })
-    });
-    const data = await response.json();
-    return data.data;
+    return plaidService.syncTransactions();
   }
 }
 
@@ -1,6 +1,18 @@
 import { getAuthHeaders } from './authToken';
 
 const BASE_URL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:3001';
+const SYNC_POLL_INTERVAL_MS = 1000;
+
+export interface SyncJobStatus {
+  jobId: string;
+  status: 'QUEUED' | 'RUNNING' | 'SUCCEEDED' | 'PARTIALLY_FAILED' | 'FAILED';
+  pagesFetched: number;
+  added: number;
+  modified: number;
+  removed: number;
+  items: { itemId: string; institutionName: string; success: boolean; error?: string }[];
+  error?: string;
+}
 
 export const plaidService = {
   async createLinkToken(): Promise<string> {
@@ -33,6 +45,9 @@ export const plaidService = {
     }
   },
 
+  /**
+   * Starts a background sync and polls its job until it finishes.
+   */
   async syncTransactions(): Promise<{ added: number; modified: number; removed: number }> {
     const response = await fetch(`${BASE_URL}/api/plaid/sync_transactions`, {
       method: 'POST',
@@ -45,6 +60,26 @@ export const plaidService = {
     if (!data.success) {
       throw new Error(data.error || 'Failed to sync transactions');
     }
+
+    let job: SyncJobStatus = data.data;
+    while (job.status === 'QUEUED' || job.status === 'RUNNING') {
+      await new Promise(resolve => setTimeout(resolve, SYNC_POLL_INTERVAL_MS));
+      job = await this.getSyncJob(job.jobId);
+    }
+    if (job.status === 'FAILED') {
+      throw new Error(job.error || job.items.find(item => !item.success)?.error || 'Failed to sync transactions');
+    }
+    return job;
+  },
+
+  async getSyncJob(jobId: string): Promise<SyncJobStatus> {
+    const response = await fetch(`${BASE_URL}/api/plaid/sync_jobs/${jobId}`, {
+      headers: await getAuthHeaders(),
+    });
+    const data = await response.json();
+    if (!data.success) {
+      throw new Error(data.error || 'Failed to load sync status');
+    }
     return data.data;
   },
 };
@@ -8,15 +8,28 @@ export interface TransactionsResponse {
   pagination?: {
     page: number;
     limit: number;
-    total: number;
+    total: number | null;
+    totalEstimated?: boolean;
     hasMore: boolean;
+    nextCursor?: string | null;
   };
 }
 
 class TransactionsService {
   private baseURL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:3001';
 
-  async getTransactions(filters: TransactionFilters = {}, pagination = { page: 1, limit: 50 }): Promise<TransactionsResponse> {
+  // Pass `cursor` ('' for the first page, then pagination.nextCursor) for stable keyset paging
+  async getTransactions(
+    filters: TransactionFilters = {},
+    pagination: {
+      page?: number;
+      limit: number;
+      cursor?: string;
+      total?: 'exact' | 'estimate' | 'none';
+      // Only these fields come back on each row (the rest are absent)
+      fields?: Exclude<keyof TransactionDTO, 'account'>[];
+    } = { page: 1, limit: 50 }
+  ): Promise<TransactionsResponse> {
     const params = new URLSearchParams();
     
     if (filters.startDate) params.append('startDate', filters.startDate);
@@ -38,8 +51,14 @@ class TransactionsService {
     if (filters.excludeTransfers) params.append('excludeTransfers', 'true');
     if (filters.onlyRecurring) params.append('onlyRecurring', 'true');
     
-    params.append('page', pagination.page.toString());
+    if (pagination.cursor !== undefined) {
+      params.append('cursor', pagination.cursor);
+    } else {
+      params.append('page', (pagination.page ?? 1).toString());
+      if (pagination.total) params.append('total', pagination.total);
+    }
     params.append('limit', pagination.limit.toString());
+    if (pagination.fields && pagination.fields.length > 0) params.append('fields', pagination.fields.join(','));
 
     const response = await fetch(`${this.baseURL}/api/transactions?${params}`, {
       headers: await getAuthHeaders(),
@@ -85,6 +85,18 @@ export interface MonthlyTrend {
   transactionCount: number;
 }
 
+// Aggregates from GET /api/dashboard/summary (transfers and budget-excluded rows left out)
+export interface DashboardSummary {
+  periodStart: string;
+  periodEnd: string;
+  totalIncome: number;
+  totalExpenses: number;
+  netIncome: number;
+  transactionCount: number;
+  categoryBreakdown: CategoryBreakdown[];
+  monthlyTrends: Omit<MonthlyTrend, 'monthName'>[];
+}
+
 // Plaid Item Types
 export interface PlaidItemDTO {
   id: number;
@@ -110,8 +122,10 @@ export interface ApiResponse<T = any> {
   pagination?: {
     page: number;
     limit: number;
-    total: number;
+    total: number | null;
+    totalEstimated?: boolean;
     hasMore: boolean;
+    nextCursor?: string | null;
   };
 }
 
@@ -127,6 +141,7 @@ export interface AccountSummary {
   netWorth: number;
   totalAssets: number;
   totalLiabilities: number;
+  accountCount?: number;
   accountBreakdown: {
     checking: number;
     savings: number;
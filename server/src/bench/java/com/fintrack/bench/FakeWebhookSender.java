@@ -0,0 +1,130 @@
+package com.fintrack.bench;
+
+import com.fintrack.plaid.WebhookKeySource;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+/**
+ * Stands in for Plaid's webhook delivery when running with the bench profile. It signs webhooks with
+ * a locally generated ES256 key and serves that key as the {@link WebhookKeySource}, so the real
+ * verification path in PlaidWebhookVerifier is exercised end to end.
+ *
+ * <p>With {@code --bench.run=webhook-burst --bench.webhook.item-id=<plaid item id>} it posts a burst
+ * of {@code bench.webhook.count} concurrent SYNC_UPDATES_AVAILABLE webhooks for that item; the server
+ * log should show a single coalesced item sync.
+ */
+@Component
+@Primary
+@Profile("bench")
+public class FakeWebhookSender implements WebhookKeySource, ApplicationRunner {
+  private static final Logger log = LoggerFactory.getLogger(FakeWebhookSender.class);
+
+  private final ECKey signingKey;
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  @Value("${bench.run:}")
+  private String benchRun;
+
+  @Value("${bench.webhook.item-id:}")
+  private String itemId;
+
+  @Value("${bench.webhook.count:20}")
+  private int count;
+
+  @Value("${bench.webhook.url:http://localhost:${server.port}/api/plaid/webhook}")
+  private String webhookUrl;
+
+  public FakeWebhookSender() throws JOSEException {
+    this.signingKey = new ECKeyGenerator(Curve.P_256).keyID("bench-webhook-key").generate();
+  }
+
+  @Override
+  public ECKey getKey(String keyId) {
+    if (!signingKey.getKeyID().equals(keyId)) {
+      throw new IllegalArgumentException("Unknown webhook key id: " + keyId);
+    }
+    return signingKey.toPublicJWK();
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!"webhook-burst".equals(benchRun)) {
+      return;
+    }
+    if (itemId.isBlank()) {
+      throw new IllegalArgumentException("bench.webhook.item-id is required");
+    }
+
+    CompletableFuture<?>[] sends = IntStream.range(0, count)
+        .mapToObj(i -> CompletableFuture.runAsync(() -> send("TRANSACTIONS", "SYNC_UPDATES_AVAILABLE", itemId)))
+        .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(sends).join();
+    log.info("Sent {} SYNC_UPDATES_AVAILABLE webhooks for item {}", count, itemId);
+  }
+
+  public void send(String webhookType, String webhookCode, String itemId) {
+    String body = String.format(
+        "{\"webhook_type\":\"%s\",\"webhook_code\":\"%s\",\"item_id\":\"%s\",\"environment\":\"sandbox\"}",
+        webhookType, webhookCode, itemId);
+    try {
+      HttpRequest request = HttpRequest.newBuilder(URI.create(webhookUrl))
+          .header("Content-Type", "application/json")
+          .header("Plaid-Verification", sign(body))
+          .POST(HttpRequest.BodyPublishers.ofString(body))
+          .build();
+      HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        log.warn("Webhook rejected with {}: {}", response.statusCode(), response.body());
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to send webhook: " + e.getMessage(), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while sending webhook", e);
+    }
+  }
+
+  private String sign(String body) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+      JWTClaimsSet claims = new JWTClaimsSet.Builder()
+          .issueTime(new Date())
+          .claim("request_body_sha256", HexFormat.of().formatHex(digest))
+          .build();
+      SignedJWT jwt = new SignedJWT(
+          new JWSHeader.Builder(JWSAlgorithm.ES256).keyID(signingKey.getKeyID()).build(), claims);
+      jwt.sign(new ECDSASigner(signingKey));
+      return jwt.serialize();
+    } catch (NoSuchAlgorithmException | JOSEException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,226 @@
+package com.fintrack.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintrack.transactions.TransactionExporter;
+import com.fintrack.transactions.TransactionFields;
+import com.fintrack.transactions.TransactionFilter;
+import com.fintrack.transactions.TransactionService;
+import com.fintrack.transactions.TransactionVersions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Seeds {@code bench.rows} transactions spread over {@code bench.users} users, then runs the first
+ * list page for every filter shape GET /api/transactions supports through TransactionService,
+ * captures the SQL Hibernate sends (ranking order included) and EXPLAINs it with the same bindings.
+ * Fails (non-zero exit) if any shape plans a sequential scan of transactions, or if the JDBC copy of
+ * the filter used by exports selects different rows than the Specification for any shape.
+ *
+ * <pre>
+ * mvn -Pbench spring-boot:run -Dspring-boot.run.profiles=bench \
+ *   -Dspring-boot.run.arguments="--bench.run=index-check --bench.rows=500000"
+ * </pre>
+ */
+@Component
+@Profile("bench")
+@ConditionalOnProperty(name = "bench.run", havingValue = "index-check")
+public class IndexPlanCheck implements ApplicationRunner {
+  private static final Logger log = LoggerFactory.getLogger(IndexPlanCheck.class);
+  private static final int PAGE_SIZE = 50;
+  private static final TransactionFields ID_ONLY = TransactionFields.parse("id");
+
+  private final TransactionService transactionService;
+  private final TransactionVersions versions;
+  private final TransactionExporter exporter;
+  private final StatementCapture statementCapture;
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Value("${bench.rows:500000}")
+  private int rows;
+
+  @Value("${bench.users:100}")
+  private int users;
+
+  public IndexPlanCheck(TransactionService transactionService,
+                        TransactionVersions versions,
+                        TransactionExporter exporter,
+                        StatementCapture statementCapture,
+                        JdbcTemplate jdbcTemplate,
+                        ObjectMapper objectMapper) {
+    this.transactionService = transactionService;
+    this.versions = versions;
+    this.exporter = exporter;
+    this.statementCapture = statementCapture;
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws IOException {
+    String userPrefix = "bench-idx-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+    try {
+      seed(userPrefix);
+      String userId = userPrefix + "0";
+
+      List<String> failures = new ArrayList<>();
+      for (Map.Entry<String, TransactionFilter> shape : shapes().entrySet()) {
+        JsonNode plan = explainPage(userId, shape.getValue());
+        List<String> nodes = new ArrayList<>();
+        boolean seqScan = collect(plan.path(0).path("Plan"), nodes);
+        log.info("{} {}: {}", seqScan ? "FAIL" : "ok  ", shape.getKey(), String.join(" -> ", nodes));
+        if (seqScan) {
+          failures.add(shape.getKey() + " (sequential scan)");
+        }
+
+        Set<Long> listed = listedIds(userId, shape.getValue());
+        Set<Long> exported = exportedIds(userId, shape.getValue());
+        if (!listed.equals(exported)) {
+          log.info("FAIL {}: list returns {} rows, export {}", shape.getKey(), listed.size(), exported.size());
+          failures.add(shape.getKey() + " (export differs from list)");
+        }
+      }
+      if (!failures.isEmpty()) {
+        throw new IllegalStateException("Index check failed for: " + String.join(", ", failures));
+      }
+    } finally {
+      jdbcTemplate.update("delete from transactions where user_id like ?", userPrefix + "%");
+    }
+  }
+
+  /**
+   * Loads the first page the way GET /api/transactions does and EXPLAINs the statement it ran.
+   */
+  private JsonNode explainPage(String userId, TransactionFilter filter) throws IOException {
+    // A new version guarantees a page cache miss, so the query actually runs
+    versions.invalidate(userId);
+    List<StatementCapture.Captured> statements = statementCapture.capture(() ->
+        transactionService.getTransactions(userId, filter, 1, PAGE_SIZE, TransactionService.TotalMode.NONE));
+    if (statements.size() != 1) {
+      throw new IllegalStateException("Expected one statement for the page, got " + statements.size());
+    }
+    StatementCapture.Captured page = statements.get(0);
+    String plan = jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement("explain (format json) " + page.sql());
+      page.bind(statement);
+      return statement;
+    }, rs -> rs.next() ? rs.getString(1) : null);
+    return objectMapper.readTree(plan);
+  }
+
+  private Set<Long> listedIds(String userId, TransactionFilter filter) {
+    Set<Long> ids = new HashSet<>();
+    String cursor = null;
+    do {
+      TransactionService.CursorPage<Map<String, Object>> page =
+          transactionService.getTransactionsAfter(userId, filter, cursor, 500, ID_ONLY);
+      for (Map<String, Object> row : page.content()) {
+        ids.add(((Number) row.get("id")).longValue());
+      }
+      cursor = page.nextCursor();
+    } while (cursor != null);
+    return ids;
+  }
+
+  private Set<Long> exportedIds(String userId, TransactionFilter filter) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    exporter.export(userId, filter, TransactionExporter.Format.NDJSON, false, out);
+    Set<Long> ids = new HashSet<>();
+    for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+      if (!line.isEmpty()) {
+        ids.add(objectMapper.readTree(line).path("id").asLong());
+      }
+    }
+    return ids;
+  }
+
+  private void seed(String userPrefix) {
+    jdbcTemplate.update("""
+        insert into transactions (user_id, plaid_id, name, amount, normalized_amount, date, category,
+                                  merchant_name, transaction_type, account_type, is_recurring,
+                                  is_excluded_from_budget, category_corrected, created_at, updated_at)
+        select ? || (g % ?),
+               ? || 'txn-' || g,
+               'Merchant ' || (g % 400),
+               case when g % 15 = 0 then -((g % 3000) + 500) else (g % 250) + 0.99 end,
+               case when g % 15 = 0 then (g % 3000) + 500 else (g % 250) + 0.99 end,
+               current_date - (g % 730),
+               'Category ' || (g % 25),
+               'Merchant ' || (g % 400),
+               case when g % 15 = 0 then 'income' when g % 40 = 0 then 'transfer' else 'expense' end,
+               (array['checking', 'credit', 'savings'])[1 + g % 3],
+               g % 50 = 0,
+               false,
+               false,
+               now(),
+               now()
+        from generate_series(1, ?) g
+        """, userPrefix, users, userPrefix, rows);
+    jdbcTemplate.execute("analyze transactions");
+  }
+
+  private static Map<String, TransactionFilter> shapes() {
+    LocalDate today = LocalDate.now();
+    Map<String, TransactionFilter> shapes = new LinkedHashMap<>();
+    shapes.put("default", filter(null, null, null, null, null, null, null, false, false));
+    shapes.put("date range", filter(today.minusDays(30), today, null, null, null, null, null, false, false));
+    shapes.put("category", filter(null, null, List.of("Category 3"), null, null, null, null, false, false));
+    shapes.put("category + date range",
+        filter(today.minusDays(90), today, List.of("Category 3", "Category 4"), null, null, null, null, false, false));
+    shapes.put("account type", filter(null, null, null, List.of("credit"), null, null, null, false, false));
+    shapes.put("transaction type", filter(null, null, null, null, List.of("income"), null, null, false, false));
+    shapes.put("amount range", filter(null, null, null, null, null, -2000.0, -1000.0, false, false));
+    shapes.put("exclude transfers", filter(null, null, null, null, null, null, null, true, false));
+    shapes.put("only recurring", filter(null, null, null, null, null, null, null, false, true));
+    shapes.put("search", text("Merchant 12", null, false));
+    shapes.put("search (fuzzy)", text("Merchnt 12", null, true));
+    shapes.put("merchant", text(null, "chant 12", false));
+    shapes.put("merchant (fuzzy)", text(null, "Merchnt 12", true));
+    return shapes;
+  }
+
+  private static TransactionFilter filter(LocalDate startDate, LocalDate endDate, List<String> categories,
+                                          List<String> accountTypes, List<String> transactionTypes,
+                                          Double minAmount, Double maxAmount,
+                                          boolean excludeTransfers, boolean onlyRecurring) {
+    return new TransactionFilter(startDate, endDate, categories, accountTypes, transactionTypes,
+        null, null, minAmount, maxAmount, excludeTransfers, onlyRecurring, false);
+  }
+
+  private static TransactionFilter text(String search, String merchantName, boolean fuzzy) {
+    return new TransactionFilter(null, null, null, null, null, merchantName, search, null, null, false, false, fuzzy);
+  }
+
+  // Appends "Node Type (index)" for every plan node; returns true if transactions is seq-scanned
+  private static boolean collect(JsonNode node, List<String> nodes) {
+    String type = node.path("Node Type").asText();
+    String index = node.path("Index Name").asText("");
+    nodes.add(index.isEmpty() ? type : type + " (" + index + ")");
+    boolean seqScan = "Seq Scan".equals(type) && "transactions".equals(node.path("Relation Name").asText());
+    for (JsonNode child : node.path("Plans")) {
+      seqScan |= collect(child, nodes);
+    }
+    return seqScan;
+  }
+}
@@ -0,0 +1,76 @@
+package com.fintrack.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the JMH microbenchmarks in {@code com.fintrack.bench.jmh} (filter Specification assembly,
+ * DTO mapping, response serialization, Plaid transaction mapping) with the GC profiler, in forked
+ * JVMs that don't start the application. Results are written as JMH JSON to {@code bench.jmh.result}
+ * so runs from different commits can be compared; {@code bench.jmh.include} narrows the set by regex.
+ *
+ * <pre>
+ * mvn -Pbench spring-boot:run -Dspring-boot.run.profiles=bench \
+ *   -Dspring-boot.run.arguments="--bench.run=jmh --bench.jmh.result=target/jmh/$(git rev-parse --short HEAD).json"
+ * </pre>
+ */
+@Component
+@Profile("bench")
+@ConditionalOnProperty(name = "bench.run", havingValue = "jmh")
+public class JmhBenchmarks implements ApplicationRunner {
+  private static final Logger log = LoggerFactory.getLogger(JmhBenchmarks.class);
+
+  @Value("${bench.jmh.include:com\\.fintrack\\.bench\\.jmh\\.}")
+  private String include;
+
+  @Value("${bench.jmh.result:target/jmh-result.json}")
+  private String resultFile;
+
+  @Override
+  public void run(ApplicationArguments args) throws IOException, RunnerException {
+    Path result = Path.of(resultFile).toAbsolutePath();
+    Files.createDirectories(result.getParent());
+
+    Options options = new OptionsBuilder()
+        .include(include)
+        .addProfiler(GCProfiler.class)
+        .resultFormat(ResultFormatType.JSON)
+        .result(result.toString())
+        .build();
+    Collection<RunResult> results = new Runner(options).run();
+
+    for (RunResult run : results) {
+      String params = run.getParams().getParamsKeys().stream()
+          .map(key -> key + "=" + run.getParams().getParam(key))
+          .collect(Collectors.joining(", "));
+      Result<?> score = run.getPrimaryResult();
+      Result<?> allocated = run.getSecondaryResults().get("gc.alloc.rate.norm");
+      log.info("{}{}: {} {}, {} B/op allocated",
+          run.getParams().getBenchmark().replace("com.fintrack.bench.jmh.", ""),
+          params.isEmpty() ? "" : " (" + params + ")",
+          String.format("%.3f", score.getScore()), score.getScoreUnit(),
+          allocated != null ? String.format("%.0f", allocated.getScore()) : "?");
+    }
+    log.info("Results written to {}", result);
+  }
+}
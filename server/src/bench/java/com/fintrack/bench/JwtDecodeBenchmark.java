@@ -0,0 +1,99 @@
+package com.fintrack.bench;
+
+import com.fintrack.config.SecurityConfig;
+import com.fintrack.security.CachingJwtDecoder;
+import com.fintrack.security.JwkSetCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Measures bearer-token verification with and without the decoded-token cache, against a
+ * {@link StubJwtIssuer} wired through the same decoder the app uses. Replays {@code bench.requests}
+ * requests spread over {@code bench.tokens} distinct tokens, then checks that key rotation is picked
+ * up and that expired or wrong-audience tokens are still rejected.
+ *
+ * <pre>
+ * mvn -Pbench spring-boot:run -Dspring-boot.run.profiles=bench \
+ *   -Dspring-boot.run.arguments="--bench.run=jwt-decode"
+ * </pre>
+ */
+@Component
+@Profile("bench")
+@ConditionalOnProperty(name = "bench.run", havingValue = "jwt-decode")
+public class JwtDecodeBenchmark implements ApplicationRunner {
+  private static final Logger log = LoggerFactory.getLogger(JwtDecodeBenchmark.class);
+  private static final String AUDIENCE = "https://fintrack-api";
+
+  @Value("${bench.requests:100000}")
+  private int requests;
+
+  @Value("${bench.tokens:100}")
+  private int tokenCount;
+
+  @Override
+  public void run(ApplicationArguments args) throws IOException {
+    try (StubJwtIssuer issuer = new StubJwtIssuer()) {
+      JwkSetCache keys = new JwkSetCache(issuer.issuerUri(), Duration.ofSeconds(30));
+      keys.refresh();
+      JwtDecoder verifying = SecurityConfig.verifyingDecoder(keys, issuer.issuerUri(), AUDIENCE);
+      SimpleMeterRegistry registry = new SimpleMeterRegistry();
+      JwtDecoder caching = new CachingJwtDecoder(verifying, registry, 10_000, Duration.ofSeconds(30));
+
+      List<String> tokens = new ArrayList<>(tokenCount);
+      for (int i = 0; i < tokenCount; i++) {
+        tokens.add(issuer.mint("bench|user-" + i, AUDIENCE, Duration.ofHours(1)));
+      }
+
+      double uncachedMicros = replay(verifying, tokens);
+      double cachedMicros = replay(caching, tokens);
+      double hits = registry.get("cache.gets").tag("result", "hit").functionCounter().count();
+      double misses = registry.get("cache.gets").tag("result", "miss").functionCounter().count();
+      log.info("{} requests over {} tokens: verify every time {} us/request, cached {} us/request ({}x), hit rate {}%",
+          requests, tokenCount, String.format("%.1f", uncachedMicros), String.format("%.1f", cachedMicros),
+          String.format("%.0f", uncachedMicros / cachedMicros), String.format("%.2f", 100 * hits / (hits + misses)));
+
+      // Rotation: a token signed with a key the cache hasn't seen triggers one JWKS refresh
+      int fetchesBefore = issuer.jwksRequests();
+      issuer.rotateKey();
+      caching.decode(issuer.mint("bench|rotated", AUDIENCE, Duration.ofHours(1)));
+      log.info("Key rotation picked up with {} JWKS fetch(es)", issuer.jwksRequests() - fetchesBefore);
+
+      expectRejected(caching, issuer.mint("bench|expired", AUDIENCE, Duration.ofSeconds(-120)), "expired token");
+      expectRejected(caching, issuer.mint("bench|other", "https://other-api", Duration.ofHours(1)), "wrong audience");
+    }
+  }
+
+  private double replay(JwtDecoder decoder, List<String> tokens) {
+    SplittableRandom random = new SplittableRandom(42);
+    long start = System.nanoTime();
+    for (int i = 0; i < requests; i++) {
+      decoder.decode(tokens.get(random.nextInt(tokens.size())));
+    }
+    return (System.nanoTime() - start) / 1_000.0 / requests;
+  }
+
+  private static void expectRejected(JwtDecoder decoder, String token, String label) {
+    try {
+      decoder.decode(token);
+    } catch (JwtException e) {
+      log.info("ok   {} rejected: {}", label, e.getMessage());
+      return;
+    }
+    throw new IllegalStateException("FAIL " + label + " was accepted");
+  }
+}
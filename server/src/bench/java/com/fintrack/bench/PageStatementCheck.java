@@ -0,0 +1,117 @@
+package com.fintrack.bench;
+
+import com.fintrack.transactions.TransactionCountCache;
+import com.fintrack.transactions.TransactionFilter;
+import com.fintrack.transactions.TransactionPageCache;
+import com.fintrack.transactions.TransactionService;
+import com.fintrack.transactions.dto.TransactionDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Checks that reading a full page of transactions, tags included, costs a single SQL statement.
+ * Seeds 600 tagged transactions for a fresh user, reads a 500-row page the way the controller does
+ * (entities mapped to DTOs inside one persistence context) and fails unless exactly the expected
+ * number of statements ran. The page cache is cleared before every read, and the count cache too
+ * except for the cached-count case, so each read really loads its page from the database.
+ *
+ * <pre>
+ * mvn -Pbench spring-boot:run -Dspring-boot.run.profiles=bench \
+ *   -Dspring-boot.run.arguments="--bench.run=page-statements"
+ * </pre>
+ */
+@Component
+@Profile("bench")
+@ConditionalOnProperty(name = "bench.run", havingValue = "page-statements")
+public class PageStatementCheck implements ApplicationRunner {
+  private static final Logger log = LoggerFactory.getLogger(PageStatementCheck.class);
+  private static final int ROWS = 600;
+  private static final int PAGE_SIZE = 500;
+
+  private final TransactionService transactionService;
+  private final TransactionPageCache pageCache;
+  private final TransactionCountCache countCache;
+  private final StatementCounter statementCounter;
+  private final TransactionTemplate transactionTemplate;
+  private final JdbcTemplate jdbcTemplate;
+
+  public PageStatementCheck(TransactionService transactionService,
+                            TransactionPageCache pageCache,
+                            TransactionCountCache countCache,
+                            StatementCounter statementCounter,
+                            TransactionTemplate transactionTemplate,
+                            JdbcTemplate jdbcTemplate) {
+    this.transactionService = transactionService;
+    this.pageCache = pageCache;
+    this.countCache = countCache;
+    this.statementCounter = statementCounter;
+    this.transactionTemplate = transactionTemplate;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    String userId = "bench-page-" + UUID.randomUUID();
+    try {
+      jdbcTemplate.update("""
+          insert into transactions (user_id, plaid_id, name, amount, normalized_amount, date, category,
+                                    transaction_type, tags, is_recurring, is_excluded_from_budget,
+                                    category_corrected, created_at, updated_at)
+          select ?, ? || '-' || g, 'Merchant ' || (g % 40), (g % 250) + 0.99, (g % 250) + 0.99,
+                 current_date - (g % 365), 'Category ' || (g % 25), 'expense',
+                 array['tag-' || (g % 5), 'shared'], false, false, false, now(), now()
+          from generate_series(1, ?) g
+          """, userId, userId, ROWS);
+
+      TransactionFilter filter = new TransactionFilter(
+          null, null, null, null, null, null, null, null, null, false, false, false);
+      List<String> failures = new ArrayList<>();
+
+      countCache.invalidateAll();
+      check("page, total=none", 1, failures, () -> transactionService.getTransactions(
+          userId, filter, 1, PAGE_SIZE, TransactionService.TotalMode.NONE).content());
+      countCache.invalidateAll();
+      check("page, total=exact (uncached count)", 2, failures, () -> transactionService.getTransactions(
+          userId, filter, 1, PAGE_SIZE, TransactionService.TotalMode.EXACT).content());
+      // The previous read left the count cached; only the page is loaded
+      check("page, total=exact (cached count)", 1, failures, () -> transactionService.getTransactions(
+          userId, filter, 1, PAGE_SIZE, TransactionService.TotalMode.EXACT).content());
+      check("cursor page", 1, failures, () -> transactionService.getTransactionsAfter(
+          userId, filter, "", PAGE_SIZE).content().stream().map(TransactionDto::from).toList());
+
+      if (!failures.isEmpty()) {
+        throw new IllegalStateException("Unexpected statements for: " + String.join(", ", failures));
+      }
+    } finally {
+      jdbcTemplate.update("delete from transactions where user_id = ?", userId);
+    }
+  }
+
+  private void check(String label, long expected, List<String> failures, Supplier<List<TransactionDto>> page) {
+    // A cached page would run no statements at all and prove nothing
+    pageCache.invalidateAll();
+    long[] rows = new long[1];
+    long statements = statementCounter.statementsDuring(() -> transactionTemplate.executeWithoutResult(status -> {
+      // Touch every field the API returns, tags included
+      rows[0] = page.get().stream().filter(dto -> !dto.tags().isEmpty()).count();
+    }));
+    boolean ok = statements == expected && rows[0] == PAGE_SIZE;
+    log.info("{} {}: {} rows with tags (expected {}), {} statements (expected {})",
+        ok ? "ok  " : "FAIL", label, rows[0], PAGE_SIZE, statements, expected);
+    if (!ok) {
+      failures.add(label);
+    }
+  }
+}
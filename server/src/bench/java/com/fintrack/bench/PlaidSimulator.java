@@ -0,0 +1,361 @@
+package com.fintrack.bench;
+
+import com.plaid.client.model.AccountBalance;
+import com.plaid.client.model.AccountBase;
+import com.plaid.client.model.AccountSubtype;
+import com.plaid.client.model.AccountType;
+import com.plaid.client.model.AccountsGetRequest;
+import com.plaid.client.model.AccountsGetResponse;
+import com.plaid.client.model.ItemPublicTokenExchangeRequest;
+import com.plaid.client.model.ItemPublicTokenExchangeResponse;
+import com.plaid.client.model.LinkTokenCreateResponse;
+import com.plaid.client.model.RemovedTransaction;
+import com.plaid.client.model.Transaction;
+import com.plaid.client.model.TransactionsSyncRequest;
+import com.plaid.client.model.TransactionsSyncResponse;
+import com.plaid.client.request.PlaidApi;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * In-process stand-in for the Plaid endpoints FinTrack calls, registered by
+ * {@link PlaidSimulatorConfig} for load benchmarks without a Plaid sandbox (bench profile with
+ * {@code app.plaid.env=simulator}).
+ *
+ * <p>Data is derived from the access token, so the same item always yields the same accounts and
+ * transactions. The first {@code transactionsSync} (no cursor) pages through the item's history;
+ * every sync after that returns one batch of added, modified and removed transactions. Cursors have
+ * the form {@code <generation>:<offset>}. Each call waits {@code latency}, and a fraction
+ * {@code errorRate} of calls fail with a retryable Plaid 500.
+ *
+ * <p>Supported: linkTokenCreate, itemPublicTokenExchange, accountsGet and transactionsSync. Any other
+ * PlaidApi method throws {@link UnsupportedOperationException}; webhook keys come from
+ * {@link FakeWebhookSender} instead.
+ */
+public class PlaidSimulator implements InvocationHandler {
+  public static final String ACCESS_TOKEN_PREFIX = "access-simulator-";
+
+  private static final int DEFAULT_PAGE_SIZE = 100;
+  private static final MediaType JSON = MediaType.get("application/json");
+
+  private static final String[][] MERCHANTS = {
+      {"Starbucks", "Food and Drink", "Coffee Shop"},
+      {"Whole Foods", "Shops", "Supermarkets and Groceries"},
+      {"Trader Joe's", "Shops", "Supermarkets and Groceries"},
+      {"Shell", "Travel", "Gas Stations"},
+      {"Uber", "Travel", "Taxi"},
+      {"Delta Air Lines", "Travel", "Airlines and Aviation Services"},
+      {"Netflix", "Service", "Subscription"},
+      {"Spotify", "Service", "Subscription"},
+      {"Amazon", "Shops", "Digital Purchase"},
+      {"Target", "Shops", "Department Stores"},
+      {"Chipotle", "Food and Drink", "Restaurants"},
+      {"PG&E", "Service", "Utilities"},
+      {"Comcast", "Service", "Cable"},
+      {"CVS Pharmacy", "Healthcare", "Pharmacies"},
+      {"Planet Fitness", "Recreation", "Gyms and Fitness Centers"},
+  };
+
+  private final Settings settings;
+
+  public record Settings(int accountsPerItem,
+                         int transactionsPerItem,
+                         int addedPerSync,
+                         int modifiedPerSync,
+                         int removedPerSync,
+                         int historyDays,
+                         Duration latency,
+                         double errorRate) {}
+
+  private PlaidSimulator(Settings settings) {
+    this.settings = settings;
+  }
+
+  public static PlaidApi create(Settings settings) {
+    return (PlaidApi) Proxy.newProxyInstance(
+        PlaidApi.class.getClassLoader(), new Class<?>[]{PlaidApi.class}, new PlaidSimulator(settings));
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) {
+    if (method.getDeclaringClass() == Object.class) {
+      return switch (method.getName()) {
+        case "hashCode" -> System.identityHashCode(proxy);
+        case "equals" -> proxy == args[0];
+        default -> "PlaidSimulator" + settings;
+      };
+    }
+
+    String operation = method.getName();
+    Object request = args != null && args.length > 0 ? args[0] : null;
+    return switch (operation) {
+      case "linkTokenCreate" -> call(operation, this::linkTokenCreate);
+      case "itemPublicTokenExchange" ->
+          call(operation, () -> itemPublicTokenExchange((ItemPublicTokenExchangeRequest) request));
+      case "accountsGet" -> call(operation, () -> accountsGet((AccountsGetRequest) request));
+      case "transactionsSync" -> call(operation, () -> transactionsSync((TransactionsSyncRequest) request));
+      default -> throw new UnsupportedOperationException("PlaidSimulator does not support " + operation);
+    };
+  }
+
+  private LinkTokenCreateResponse linkTokenCreate() {
+    return new LinkTokenCreateResponse()
+        .linkToken("link-simulator-" + UUID.randomUUID())
+        .expiration(OffsetDateTime.now().plusHours(4))
+        .requestId(requestId());
+  }
+
+  private ItemPublicTokenExchangeResponse itemPublicTokenExchange(ItemPublicTokenExchangeRequest request) {
+    String itemKey = request.getPublicToken();
+    return new ItemPublicTokenExchangeResponse()
+        .accessToken(ACCESS_TOKEN_PREFIX + itemKey)
+        .itemId("item-simulator-" + itemKey)
+        .requestId(requestId());
+  }
+
+  private AccountsGetResponse accountsGet(AccountsGetRequest request) {
+    String itemKey = itemKey(request.getAccessToken());
+    List<AccountBase> accounts = new ArrayList<>(settings.accountsPerItem());
+    for (int i = 0; i < settings.accountsPerItem(); i++) {
+      accounts.add(account(itemKey, i));
+    }
+    return new AccountsGetResponse().accounts(accounts).requestId(requestId());
+  }
+
+  private TransactionsSyncResponse transactionsSync(TransactionsSyncRequest request) {
+    String itemKey = itemKey(request.getAccessToken());
+    int pageSize = request.getCount() != null ? request.getCount() : DEFAULT_PAGE_SIZE;
+
+    int generation = 1;
+    int offset = 0;
+    if (request.getCursor() != null && !request.getCursor().isEmpty()) {
+      String[] parts = request.getCursor().split(":", 2);
+      generation = Integer.parseInt(parts[0]);
+      offset = Integer.parseInt(parts[1]);
+    }
+
+    // Generation 1 is the initial history; later generations are incremental updates
+    int added = generation == 1 ? settings.transactionsPerItem() : settings.addedPerSync();
+    int modified = generation == 1 ? 0 : Math.min(settings.modifiedPerSync(), settings.transactionsPerItem() / 2);
+    int removed = generation == 1 ? 0 : Math.min(settings.removedPerSync(), settings.transactionsPerItem() / 2);
+    int total = added + modified + removed;
+    int end = Math.min(offset + pageSize, total);
+
+    TransactionsSyncResponse response = new TransactionsSyncResponse()
+        .added(new ArrayList<>())
+        .modified(new ArrayList<>())
+        .removed(new ArrayList<>())
+        .requestId(requestId());
+    for (int i = offset; i < end; i++) {
+      if (i < added) {
+        response.getAdded().add(generation == 1
+            ? transaction(itemKey, i, 0)
+            : transaction(itemKey, settings.transactionsPerItem() + (generation - 2) * added + i, 0));
+      } else if (i < added + modified) {
+        response.getModified().add(transaction(itemKey, modifiedIndex(generation, i - added), generation));
+      } else {
+        response.getRemoved().add(new RemovedTransaction()
+            .transactionId(transactionId(itemKey, removedIndex(generation, i - added - modified))));
+      }
+    }
+
+    boolean hasMore = end < total;
+    return response
+        .hasMore(hasMore)
+        .nextCursor(hasMore ? generation + ":" + end : (generation + 1) + ":0");
+  }
+
+  // Modifications touch the older half of the history and removals the newer half, so a removed
+  // transaction is never modified later.
+  private int modifiedIndex(int generation, int i) {
+    int half = settings.transactionsPerItem() / 2;
+    return (generation * settings.modifiedPerSync() + i) % half;
+  }
+
+  private int removedIndex(int generation, int i) {
+    int half = settings.transactionsPerItem() / 2;
+    int rest = settings.transactionsPerItem() - half;
+    return half + (generation * settings.removedPerSync() + i) % rest;
+  }
+
+  private AccountBase account(String itemKey, int index) {
+    SplittableRandom random = random(itemKey, -1 - index);
+    double current = Math.round(random.nextDouble(100, 25_000) * 100) / 100.0;
+    AccountBase account = new AccountBase()
+        .accountId(itemKey + "-acc-" + index)
+        .mask(String.format("%04d", random.nextInt(10_000)));
+    return switch (index % 3) {
+      case 0 -> account.name("Checking").officialName("Simulated Checking")
+          .type(AccountType.DEPOSITORY).subtype(AccountSubtype.CHECKING)
+          .balances(new AccountBalance().current(current).available(current).isoCurrencyCode("USD"));
+      case 1 -> account.name("Savings").officialName("Simulated Savings")
+          .type(AccountType.DEPOSITORY).subtype(AccountSubtype.SAVINGS)
+          .balances(new AccountBalance().current(current).available(current).isoCurrencyCode("USD"));
+      default -> account.name("Credit Card").officialName("Simulated Credit Card")
+          .type(AccountType.CREDIT).subtype(AccountSubtype.CREDIT_CARD)
+          .balances(new AccountBalance().current(current / 10).limit(10_000.0).isoCurrencyCode("USD"));
+    };
+  }
+
+  /**
+   * Builds transaction {@code index} of the item. {@code revision} > 0 produces the modified
+   * version Plaid would send in that generation.
+   */
+  private Transaction transaction(String itemKey, int index, int revision) {
+    SplittableRandom random = random(itemKey, index);
+    int accountIndex = index % Math.max(1, settings.accountsPerItem());
+    LocalDate date = LocalDate.now().minusDays(random.nextInt(Math.max(1, settings.historyDays())));
+
+    String name;
+    List<String> category;
+    double amount;
+    if (accountIndex % 3 == 0 && random.nextInt(15) == 0) {
+      name = "Payroll Deposit";
+      category = List.of("Transfer", "Payroll");
+      amount = -Math.round(random.nextDouble(1_500, 4_000) * 100) / 100.0;
+    } else {
+      String[] merchant = MERCHANTS[random.nextInt(MERCHANTS.length)];
+      name = merchant[0];
+      category = List.of(merchant[1], merchant[2]);
+      amount = Math.round(random.nextDouble(2, 250) * 100) / 100.0;
+    }
+    if (revision > 0) {
+      amount = Math.round((amount + revision * 0.25) * 100) / 100.0;
+    }
+
+    return new Transaction()
+        .transactionId(transactionId(itemKey, index))
+        .accountId(itemKey + "-acc-" + accountIndex)
+        .name(name)
+        .merchantName(name)
+        .amount(amount)
+        .isoCurrencyCode("USD")
+        .date(date)
+        .category(category)
+        .pending(false);
+  }
+
+  private static String transactionId(String itemKey, int index) {
+    return itemKey + "-txn-" + index;
+  }
+
+  private static SplittableRandom random(String itemKey, int index) {
+    return new SplittableRandom(itemKey.hashCode() * 1_000_003L + index);
+  }
+
+  private static String itemKey(String accessToken) {
+    return accessToken.startsWith(ACCESS_TOKEN_PREFIX)
+        ? accessToken.substring(ACCESS_TOKEN_PREFIX.length())
+        : accessToken;
+  }
+
+  private static String requestId() {
+    return "sim-" + UUID.randomUUID();
+  }
+
+  private <T> Call<T> call(String operation, Supplier<T> body) {
+    return new SimulatedCall<>(operation, body, settings.latency(), settings.errorRate());
+  }
+
+  /**
+   * Synchronous retrofit Call that sleeps for the configured latency and then produces the body
+   * (or a Plaid-style 500).
+   */
+  private static final class SimulatedCall<T> implements Call<T> {
+    private final String operation;
+    private final Supplier<T> body;
+    private final Duration latency;
+    private final double errorRate;
+    private volatile boolean executed;
+    private volatile boolean canceled;
+
+    SimulatedCall(String operation, Supplier<T> body, Duration latency, double errorRate) {
+      this.operation = operation;
+      this.body = body;
+      this.latency = latency;
+      this.errorRate = errorRate;
+    }
+
+    @Override
+    public Response<T> execute() throws IOException {
+      if (executed) {
+        throw new IllegalStateException("Already executed");
+      }
+      executed = true;
+      try {
+        Thread.sleep(latency.toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted during simulated " + operation);
+      }
+      if (canceled) {
+        throw new IOException("Canceled");
+      }
+      if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+        String error = "{\"error_type\":\"API_ERROR\",\"error_code\":\"INTERNAL_SERVER_ERROR\","
+            + "\"error_message\":\"simulated failure\",\"request_id\":\"" + requestId() + "\"}";
+        return Response.error(500, ResponseBody.create(error, JSON));
+      }
+      return Response.success(body.get());
+    }
+
+    @Override
+    public void enqueue(Callback<T> callback) {
+      try {
+        callback.onResponse(this, execute());
+      } catch (IOException e) {
+        callback.onFailure(this, e);
+      }
+    }
+
+    @Override
+    public boolean isExecuted() {
+      return executed;
+    }
+
+    @Override
+    public void cancel() {
+      canceled = true;
+    }
+
+    @Override
+    public boolean isCanceled() {
+      return canceled;
+    }
+
+    @Override
+    public Call<T> clone() {
+      return new SimulatedCall<>(operation, body, latency, errorRate);
+    }
+
+    @Override
+    public Request request() {
+      return new Request.Builder().url("https://simulator.plaid.invalid/" + operation).build();
+    }
+
+    @Override
+    public Timeout timeout() {
+      return Timeout.NONE;
+    }
+  }
+}
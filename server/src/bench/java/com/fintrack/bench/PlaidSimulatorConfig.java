@@ -0,0 +1,42 @@
+package com.fintrack.bench;
+
+import com.plaid.client.request.PlaidApi;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * Replaces the Plaid client with {@link PlaidSimulator} when running with the bench profile and
+ * {@code app.plaid.env=simulator}, the same way {@link FakeWebhookSender} replaces the webhook key
+ * source.
+ */
+@Configuration
+@Profile("bench")
+@ConditionalOnProperty(name = "app.plaid.env", havingValue = "simulator")
+public class PlaidSimulatorConfig {
+  @Bean
+  @Primary
+  public PlaidApi plaidSimulator(@Value("${app.plaid.simulator.accounts-per-item:3}") int accountsPerItem,
+                                 @Value("${app.plaid.simulator.transactions-per-item:500}") int transactionsPerItem,
+                                 @Value("${app.plaid.simulator.added-per-sync:10}") int addedPerSync,
+                                 @Value("${app.plaid.simulator.modified-per-sync:5}") int modifiedPerSync,
+                                 @Value("${app.plaid.simulator.removed-per-sync:2}") int removedPerSync,
+                                 @Value("${app.plaid.simulator.history-days:730}") int historyDays,
+                                 @Value("${app.plaid.simulator.latency:PT0.05S}") Duration latency,
+                                 @Value("${app.plaid.simulator.error-rate:0}") double errorRate) {
+    return PlaidSimulator.create(new PlaidSimulator.Settings(
+        accountsPerItem,
+        transactionsPerItem,
+        addedPerSync,
+        modifiedPerSync,
+        removedPerSync,
+        historyDays,
+        latency,
+        errorRate));
+  }
+}
@@ -0,0 +1,139 @@
+package com.fintrack.bench;
+
+import com.fintrack.dashboard.DailyRollups;
+import com.fintrack.plaid.PlaidItem;
+import com.fintrack.plaid.PlaidItemRepository;
+import com.fintrack.plaid.PlaidService;
+import com.fintrack.plaid.SyncProgressListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Syncs {@code bench.items} simulated items of one user at the same time, all starting together,
+ * for {@code bench.rounds} rounds. Their pages write overlapping daily rollup rows from concurrent
+ * transactions. Logs how many page transactions were re-run after a deadlock, and fails if any item
+ * sync fails (a deadlock that outlasts the page retries surfaces as SQLState 40P01) or if the rollup
+ * disagrees with the transactions afterwards.
+ *
+ * <pre>
+ * mvn -Pbench spring-boot:run -Dspring-boot.run.profiles=bench \
+ *   -Dspring-boot.run.arguments="--bench.run=rollup-concurrency --app.plaid.env=simulator --bench.items=8"
+ * </pre>
+ */
+@Component
+@Profile("bench")
+@ConditionalOnProperty(name = "bench.run", havingValue = "rollup-concurrency")
+public class RollupConcurrencyCheck implements ApplicationRunner {
+  private static final Logger log = LoggerFactory.getLogger(RollupConcurrencyCheck.class);
+
+  private final PlaidService plaidService;
+  private final PlaidItemRepository plaidItemRepository;
+  private final DailyRollups dailyRollups;
+  private final JdbcTemplate jdbcTemplate;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${app.plaid.env}")
+  private String plaidEnv;
+
+  @Value("${bench.items:8}")
+  private int itemCount;
+
+  @Value("${bench.rounds:3}")
+  private int rounds;
+
+  public RollupConcurrencyCheck(PlaidService plaidService,
+                                PlaidItemRepository plaidItemRepository,
+                                DailyRollups dailyRollups,
+                                JdbcTemplate jdbcTemplate,
+                                MeterRegistry meterRegistry) {
+    this.plaidService = plaidService;
+    this.plaidItemRepository = plaidItemRepository;
+    this.dailyRollups = dailyRollups;
+    this.jdbcTemplate = jdbcTemplate;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    if (!"simulator".equalsIgnoreCase(plaidEnv)) {
+      throw new IllegalStateException("rollup-concurrency must run with --app.plaid.env=simulator");
+    }
+
+    String userId = "bench-rollup-" + UUID.randomUUID().toString().substring(0, 8);
+    List<PlaidItem> items = createItems(userId);
+    ExecutorService pool = Executors.newFixedThreadPool(itemCount);
+    try {
+      List<String> failures = new ArrayList<>();
+      for (int round = 1; round <= rounds; round++) {
+        // Every item starts at once, so their page transactions overlap as much as possible
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PlaidService.ItemSyncResult>> futures = new ArrayList<>(items.size());
+        for (PlaidItem item : items) {
+          futures.add(pool.submit(() -> {
+            start.await();
+            return plaidService.syncItem(item, SyncProgressListener.NONE);
+          }));
+        }
+        start.countDown();
+
+        int changes = 0;
+        for (Future<PlaidService.ItemSyncResult> future : futures) {
+          PlaidService.ItemSyncResult result = future.get();
+          changes += result.added() + result.modified() + result.removed();
+          if (!result.success()) {
+            failures.add("round " + round + " " + result.itemId() + ": " + result.error());
+          }
+        }
+        log.info("round {}: {} items of one user synced concurrently, {} changes, {} page retries so far",
+            round, items.size(), changes, (long) meterRegistry.counter("plaid.sync.page.retries").count());
+      }
+
+      long mismatches = dailyRollups.verify(1000).stream()
+          .filter(mismatch -> userId.equals(mismatch.userId()))
+          .count();
+      log.info("{} rollup mismatches for {}", mismatches, userId);
+      if (mismatches > 0) {
+        failures.add(mismatches + " rollup rows disagree with transactions");
+      }
+      if (!failures.isEmpty()) {
+        throw new IllegalStateException("Concurrent item syncs failed: " + String.join("; ", failures));
+      }
+    } finally {
+      pool.shutdownNow();
+      jdbcTemplate.update("delete from transactions where user_id = ?", userId);
+      jdbcTemplate.update("delete from accounts where user_id = ?", userId);
+      jdbcTemplate.update("delete from plaid_items where user_id = ?", userId);
+    }
+  }
+
+  private List<PlaidItem> createItems(String userId) {
+    List<PlaidItem> items = new ArrayList<>(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      String key = userId + "-" + i;
+      PlaidItem item = new PlaidItem();
+      item.setUserId(userId);
+      item.setItemId("item-simulator-" + key);
+      item.setAccessToken(PlaidSimulator.ACCESS_TOKEN_PREFIX + key);
+      item.setInstitutionId("ins_simulator");
+      item.setInstitutionName("Simulator Bank " + i);
+      items.add(item);
+    }
+    return plaidItemRepository.saveAll(items);
+  }
+}
@@ -0,0 +1,116 @@
+package com.fintrack.bench;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL and parameter bindings of the prepared statements a piece of code sends to the
+ * database, exactly as Hibernate (or JDBC) generated them, so the bench profile can EXPLAIN the
+ * queries the app really runs. Wraps the DataSource bean the same way {@link StatementCounter} does.
+ */
+@Component
+@Profile("bench")
+public class StatementCapture implements BeanPostProcessor {
+  // Statements prepared by the current thread inside capture(); null when not capturing
+  private final ThreadLocal<List<Captured>> captured = new ThreadLocal<>();
+
+  /**
+   * A prepared statement: its SQL and the setter calls that bound its parameters.
+   */
+  public record Captured(String sql, List<Binding> bindings) {
+    /**
+     * Replays the bindings on {@code statement}, which must have the same placeholders.
+     */
+    public void bind(PreparedStatement statement) throws SQLException {
+      for (Binding binding : bindings) {
+        try {
+          binding.method().invoke(statement, binding.args());
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+          if (e.getCause() instanceof SQLException sqlException) {
+            throw sqlException;
+          }
+          throw new IllegalStateException(e.getCause());
+        }
+      }
+    }
+  }
+
+  public record Binding(Method method, Object[] args) {}
+
+  /**
+   * Runs {@code work} and returns the statements this thread prepared meanwhile, in order.
+   */
+  public List<Captured> capture(Runnable work) {
+    List<Captured> statements = new ArrayList<>();
+    captured.set(statements);
+    try {
+      work.run();
+    } finally {
+      captured.remove();
+    }
+    return statements;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!(bean instanceof DataSource)) {
+      return bean;
+    }
+    ProxyFactory factory = new ProxyFactory(bean);
+    factory.addAdvice((MethodInterceptor) invocation -> {
+      Object result = invocation.proceed();
+      return result instanceof Connection connection ? wrapConnection(connection) : result;
+    });
+    return factory.getProxy();
+  }
+
+  private Connection wrapConnection(Connection connection) {
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+        (proxy, method, args) -> {
+          Object result = invoke(connection, method, args);
+          List<Captured> statements = captured.get();
+          if (statements != null && method.getName().equals("prepareStatement")
+              && result instanceof PreparedStatement statement) {
+            Captured capture = new Captured((String) args[0], new ArrayList<>());
+            statements.add(capture);
+            return wrapStatement(statement, capture);
+          }
+          return result;
+        });
+  }
+
+  private PreparedStatement wrapStatement(PreparedStatement statement, Captured capture) {
+    return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[]{PreparedStatement.class},
+        (proxy, method, args) -> {
+          // setString(1, ...), setObject(2, ..., Types.X), setNull(3, Types.X), ...
+          if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+            capture.bindings().add(new Binding(method, args.clone()));
+          }
+          return invoke(statement, method, args);
+        });
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.fintrack.bench;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts JDBC statements sent to the database while running with the bench profile, by wrapping the
+ * DataSource bean. A statement is one execute call (a JDBC batch counts once, since the driver sends
+ * it as a single multi-row statement); batched rows are counted separately.
+ */
+@Component
+@Profile("bench")
+public class StatementCounter implements BeanPostProcessor {
+  private final AtomicLong statements = new AtomicLong();
+  private final AtomicLong batchedRows = new AtomicLong();
+  // Statements issued by the current thread inside statementsDuring(), unaffected by other threads
+  private final ThreadLocal<long[]> threadStatements = new ThreadLocal<>();
+
+  public void reset() {
+    statements.set(0);
+    batchedRows.set(0);
+  }
+
+  public long getStatements() {
+    return statements.get();
+  }
+
+  public long getBatchedRows() {
+    return batchedRows.get();
+  }
+
+  /**
+   * Runs {@code work} and returns how many statements this thread executed meanwhile.
+   */
+  public long statementsDuring(Runnable work) {
+    long[] count = new long[1];
+    threadStatements.set(count);
+    try {
+      work.run();
+    } finally {
+      threadStatements.remove();
+    }
+    return count[0];
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!(bean instanceof DataSource)) {
+      return bean;
+    }
+    // A Spring AOP proxy keeps the pool reachable for Boot's DataSource unwrapping (pool metrics)
+    ProxyFactory factory = new ProxyFactory(bean);
+    factory.addAdvice((MethodInterceptor) invocation -> {
+      Object result = invocation.proceed();
+      return result instanceof Connection connection ? wrap(connection, Connection.class) : result;
+    });
+    return factory.getProxy();
+  }
+
+  private Object wrap(Object target, Class<?> type) {
+    return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+        (proxy, method, args) -> {
+          count(method, target);
+          Object result = invoke(target, method, args);
+          if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+            return wrap(result, method.getReturnType());
+          }
+          return result;
+        });
+  }
+
+  private void count(Method method, Object target) {
+    if (!(target instanceof Statement)) {
+      return;
+    }
+    String name = method.getName();
+    if (name.equals("addBatch")) {
+      batchedRows.incrementAndGet();
+    } else if (name.startsWith("execute")) {
+      statements.incrementAndGet();
+      long[] count = threadStatements.get();
+      if (count != null) {
+        count[0]++;
+      }
+    }
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.fintrack.bench;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local OpenID issuer for exercising JWT verification without Auth0: serves discovery and a JWK
+ * set over HTTP on a free loopback port and mints RS256 access tokens signed with the current key.
+ * {@link #rotateKey()} switches to a new key, publishing it alongside the old one.
+ */
+class StubJwtIssuer implements AutoCloseable {
+  private final HttpServer server;
+  private final String issuerUri;
+  private final AtomicInteger jwksRequests = new AtomicInteger();
+  private volatile RSAKey previousKey;
+  private volatile RSAKey signingKey;
+
+  StubJwtIssuer() throws IOException {
+    this.signingKey = generateKey();
+    this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    this.issuerUri = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    server.createContext("/.well-known/openid-configuration", exchange -> respond(exchange,
+        "{\"issuer\":\"" + issuerUri + "\",\"jwks_uri\":\"" + issuerUri + ".well-known/jwks.json\"}"));
+    server.createContext("/.well-known/jwks.json", exchange -> {
+      jwksRequests.incrementAndGet();
+      JWKSet keys = previousKey != null
+          ? new JWKSet(List.<JWK>of(signingKey.toPublicJWK(), previousKey.toPublicJWK()))
+          : new JWKSet(signingKey.toPublicJWK());
+      respond(exchange, keys.toString());
+    });
+    server.start();
+  }
+
+  String issuerUri() {
+    return issuerUri;
+  }
+
+  int jwksRequests() {
+    return jwksRequests.get();
+  }
+
+  String mint(String subject, String audience, Duration ttl) {
+    Instant now = Instant.now();
+    JWTClaimsSet claims = new JWTClaimsSet.Builder()
+        .issuer(issuerUri)
+        .subject(subject)
+        .audience(audience)
+        .issueTime(Date.from(now))
+        .notBeforeTime(Date.from(now.minusSeconds(1)))
+        .expirationTime(Date.from(now.plus(ttl)))
+        .jwtID(UUID.randomUUID().toString())
+        .build();
+    RSAKey key = signingKey;
+    SignedJWT jwt = new SignedJWT(
+        new JWSHeader.Builder(JWSAlgorithm.RS256).type(JOSEObjectType.JWT).keyID(key.getKeyID()).build(), claims);
+    try {
+      jwt.sign(new RSASSASigner(key));
+    } catch (JOSEException e) {
+      throw new IllegalStateException(e);
+    }
+    return jwt.serialize();
+  }
+
+  void rotateKey() {
+    previousKey = signingKey;
+    signingKey = generateKey();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+
+  private static RSAKey generateKey() {
+    try {
+      return new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+    } catch (JOSEException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void respond(HttpExchange exchange, String json) throws IOException {
+    byte[] body = json.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+}
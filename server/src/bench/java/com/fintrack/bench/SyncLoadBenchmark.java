@@ -0,0 +1,163 @@
+package com.fintrack.bench;
+
+import com.fintrack.plaid.PlaidItem;
+import com.fintrack.plaid.PlaidItemRepository;
+import com.fintrack.plaid.PlaidService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drives {@link PlaidService#syncTransactions(String)} against the Plaid simulator for
+ * {@code bench.users} users with {@code bench.items-per-user} items each, and reports throughput,
+ * per-user sync latency and JDBC statement counts. The first round is the initial history sync;
+ * each further round ({@code bench.rounds}) is an incremental sync.
+ *
+ * <pre>
+ * mvn -Pbench spring-boot:run -Dspring-boot.run.profiles=bench \
+ *   -Dspring-boot.run.arguments="--bench.run=sync-load --app.plaid.env=simulator \
+ *     --bench.users=20 --bench.items-per-user=2 --app.plaid.simulator.transactions-per-item=1000"
+ * </pre>
+ */
+@Component
+@Profile("bench")
+@ConditionalOnProperty(name = "bench.run", havingValue = "sync-load")
+public class SyncLoadBenchmark implements ApplicationRunner {
+  private static final Logger log = LoggerFactory.getLogger(SyncLoadBenchmark.class);
+
+  private final PlaidService plaidService;
+  private final PlaidItemRepository plaidItemRepository;
+  private final StatementCounter statementCounter;
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${app.plaid.env}")
+  private String plaidEnv;
+
+  @Value("${bench.users:10}")
+  private int users;
+
+  @Value("${bench.items-per-user:2}")
+  private int itemsPerUser;
+
+  @Value("${bench.concurrency:4}")
+  private int concurrency;
+
+  @Value("${bench.rounds:2}")
+  private int rounds;
+
+  public SyncLoadBenchmark(PlaidService plaidService,
+                           PlaidItemRepository plaidItemRepository,
+                           StatementCounter statementCounter,
+                           JdbcTemplate jdbcTemplate) {
+    this.plaidService = plaidService;
+    this.plaidItemRepository = plaidItemRepository;
+    this.statementCounter = statementCounter;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    if (!"simulator".equalsIgnoreCase(plaidEnv)) {
+      throw new IllegalStateException("sync-load must run with --app.plaid.env=simulator");
+    }
+
+    String userPrefix = "bench-load-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+    List<String> userIds = createItems(userPrefix);
+    ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+    try {
+      for (int round = 1; round <= rounds; round++) {
+        measure(round == 1 ? "initial sync" : "incremental sync " + (round - 1), userIds, pool);
+      }
+    } finally {
+      pool.shutdownNow();
+      jdbcTemplate.update("delete from transactions where user_id like ?", userPrefix + "%");
+      jdbcTemplate.update("delete from accounts where user_id like ?", userPrefix + "%");
+      jdbcTemplate.update("delete from plaid_items where user_id like ?", userPrefix + "%");
+    }
+  }
+
+  private List<String> createItems(String userPrefix) {
+    List<String> userIds = new ArrayList<>(users);
+    List<PlaidItem> items = new ArrayList<>(users * itemsPerUser);
+    for (int u = 0; u < users; u++) {
+      String userId = userPrefix + u;
+      userIds.add(userId);
+      for (int i = 0; i < itemsPerUser; i++) {
+        String key = userId + "-" + i;
+        PlaidItem item = new PlaidItem();
+        item.setUserId(userId);
+        item.setItemId("item-simulator-" + key);
+        item.setAccessToken(PlaidSimulator.ACCESS_TOKEN_PREFIX + key);
+        item.setInstitutionId("ins_simulator");
+        item.setInstitutionName("Simulator Bank " + i);
+        items.add(item);
+      }
+    }
+    plaidItemRepository.saveAll(items);
+    return userIds;
+  }
+
+  private void measure(String label, List<String> userIds, ExecutorService pool) throws Exception {
+    statementCounter.reset();
+    long start = System.nanoTime();
+
+    List<Future<Run>> futures = new ArrayList<>(userIds.size());
+    for (String userId : userIds) {
+      futures.add(pool.submit(() -> {
+        long userStart = System.nanoTime();
+        PlaidService.SyncResult result = plaidService.syncTransactions(userId);
+        return new Run(System.nanoTime() - userStart, result);
+      }));
+    }
+
+    long[] latencies = new long[futures.size()];
+    long changes = 0;
+    long failedItems = 0;
+    for (int i = 0; i < futures.size(); i++) {
+      Run run = futures.get(i).get();
+      latencies[i] = run.nanos();
+      changes += run.result().added() + run.result().modified() + run.result().removed();
+      failedItems += run.result().items().stream().filter(item -> !item.success()).count();
+    }
+    double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+    Arrays.sort(latencies);
+
+    long statements = statementCounter.getStatements();
+    log.info("{}: {} users x {} items, {} changes in {} s -> {} changes/sec, {} items/sec; "
+            + "user sync latency p50={} ms p99={} ms; {} statements ({} per 1k changes), {} batched rows; {} failed items",
+        label, userIds.size(), itemsPerUser, changes,
+        String.format("%.2f", seconds),
+        String.format("%.0f", changes / seconds),
+        String.format("%.1f", userIds.size() * itemsPerUser / seconds),
+        percentileMillis(latencies, 0.50),
+        percentileMillis(latencies, 0.99),
+        statements,
+        changes > 0 ? String.format("%.1f", statements * 1000.0 / changes) : "-",
+        statementCounter.getBatchedRows(),
+        failedItems);
+  }
+
+  private static long percentileMillis(long[] sortedNanos, double percentile) {
+    if (sortedNanos.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+    return sortedNanos[Math.max(0, index)] / 1_000_000;
+  }
+
+  private record Run(long nanos, PlaidService.SyncResult result) {}
+}
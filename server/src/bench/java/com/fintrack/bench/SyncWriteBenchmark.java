@@ -0,0 +1,127 @@
+package com.fintrack.bench;
+
+import com.fintrack.transactions.Transaction;
+import com.fintrack.transactions.TransactionBulkWriter;
+import com.fintrack.transactions.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Compares rows/sec of the old per-row sync write path (select by plaid_id + save) with the
+ * batched upsert used by PlaidService. Inserts and updates are measured separately.
+ *
+ * <pre>
+ * mvn -Pbench spring-boot:run -Dspring-boot.run.profiles=bench \
+ *   -Dspring-boot.run.arguments="--bench.run=sync-write --bench.rows=20000"
+ * </pre>
+ */
+@Component
+@Profile("bench")
+@ConditionalOnProperty(name = "bench.run", havingValue = "sync-write")
+public class SyncWriteBenchmark implements ApplicationRunner {
+  private static final Logger log = LoggerFactory.getLogger(SyncWriteBenchmark.class);
+  private static final int PAGE_SIZE = 500;
+
+  private final TransactionRepository transactionRepository;
+  private final TransactionBulkWriter transactionBulkWriter;
+  private final TransactionTemplate transactionTemplate;
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${bench.rows:10000}")
+  private int rows;
+
+  public SyncWriteBenchmark(TransactionRepository transactionRepository,
+                            TransactionBulkWriter transactionBulkWriter,
+                            TransactionTemplate transactionTemplate,
+                            JdbcTemplate jdbcTemplate) {
+    this.transactionRepository = transactionRepository;
+    this.transactionBulkWriter = transactionBulkWriter;
+    this.transactionTemplate = transactionTemplate;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    String perRowUser = "bench-per-row-" + UUID.randomUUID();
+    String batchUser = "bench-batch-" + UUID.randomUUID();
+    try {
+      List<Transaction> perRowRows = generate(perRowUser, rows);
+      List<Transaction> batchRows = generate(batchUser, rows);
+
+      report("per-row insert", perRowRows, this::writePerRow);
+      report("batch insert", batchRows, page -> transactionBulkWriter.upsertAll(page));
+
+      perRowRows.forEach(txn -> txn.setName(txn.getName() + " (modified)"));
+      batchRows.forEach(txn -> txn.setName(txn.getName() + " (modified)"));
+
+      report("per-row update", perRowRows, this::writePerRow);
+      report("batch update", batchRows, page -> transactionBulkWriter.upsertAll(page));
+    } finally {
+      jdbcTemplate.update("delete from transactions where user_id in (?, ?)", perRowUser, batchUser);
+    }
+  }
+
+  // Mirrors the pre-batching PlaidService.saveTransaction: one lookup and one save per row.
+  private void writePerRow(List<Transaction> page) {
+    for (Transaction source : page) {
+      Transaction txn = transactionRepository.findByPlaidId(source.getPlaidId()).orElse(new Transaction());
+      txn.setUserId(source.getUserId());
+      txn.setPlaidId(source.getPlaidId());
+      txn.setName(source.getName());
+      txn.setAmount(source.getAmount());
+      txn.setNormalizedAmount(source.getNormalizedAmount());
+      txn.setDate(source.getDate());
+      txn.setCategory(source.getCategory());
+      txn.setCategorySource(source.getCategorySource());
+      txn.setMerchantName(source.getMerchantName());
+      txn.setTransactionType(source.getTransactionType());
+      transactionRepository.save(txn);
+    }
+  }
+
+  private void report(String label, List<Transaction> all, Consumer<List<Transaction>> writer) {
+    long start = System.nanoTime();
+    for (int from = 0; from < all.size(); from += PAGE_SIZE) {
+      List<Transaction> page = all.subList(from, Math.min(from + PAGE_SIZE, all.size()));
+      transactionTemplate.executeWithoutResult(status -> writer.accept(page));
+    }
+    double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+    log.info("{}: {} rows in {} s -> {} rows/sec",
+        label, all.size(), String.format("%.2f", seconds), String.format("%.0f", all.size() / seconds));
+  }
+
+  private static List<Transaction> generate(String userId, int count) {
+    List<Transaction> result = new ArrayList<>(count);
+    LocalDate today = LocalDate.now();
+    for (int i = 0; i < count; i++) {
+      double amount = (i % 7 == 0) ? -(i % 1000) - 1 : (i % 250) + 0.99;
+      Transaction txn = new Transaction();
+      txn.setUserId(userId);
+      txn.setPlaidId(userId + "-" + i);
+      txn.setName("Merchant " + (i % 400));
+      txn.setAmount(amount);
+      txn.setNormalizedAmount(Math.abs(amount));
+      txn.setDate(today.minusDays(i % 730));
+      txn.setCategory("Category " + (i % 25));
+      txn.setCategorySource("plaid");
+      txn.setMerchantName("Merchant " + (i % 400));
+      txn.setTransactionType(amount < 0 ? "income" : "expense");
+      result.add(txn);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,49 @@
+package com.fintrack.bench.jmh;
+
+import com.fintrack.accounts.Account;
+import com.fintrack.accounts.dto.AccountDto;
+import com.fintrack.transactions.Transaction;
+import com.fintrack.transactions.dto.TransactionDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping for a full 500-row transaction page and a user's accounts list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+  private List<Transaction> transactions;
+  private List<Account> accounts;
+
+  @Setup
+  public void setUp() {
+    transactions = Fixtures.transactions(500);
+    accounts = Fixtures.accounts(20);
+  }
+
+  @Benchmark
+  public List<TransactionDto> transactionPage() {
+    return transactions.stream().map(TransactionDto::from).toList();
+  }
+
+  @Benchmark
+  public List<AccountDto> accounts() {
+    return accounts.stream().map(AccountDto::from).toList();
+  }
+}
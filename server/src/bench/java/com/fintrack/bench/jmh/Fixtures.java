@@ -0,0 +1,92 @@
+package com.fintrack.bench.jmh;
+
+import com.fintrack.accounts.Account;
+import com.fintrack.transactions.Transaction;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic in-memory rows shaped like synced data, so every run and every commit measures the
+ * same input.
+ */
+final class Fixtures {
+  static final String USER_ID = "bench|jmh";
+
+  private static final String[] CATEGORIES = {"Groceries", "Restaurants", "Travel", "Shopping", "Utilities", "Payroll"};
+  private static final String[] MERCHANTS = {"Whole Foods", "Starbucks", "Delta", "Amazon", "PG&E", "Acme Corp"};
+  private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+  private Fixtures() {}
+
+  static List<Transaction> transactions(int count) {
+    SplittableRandom random = new SplittableRandom(42);
+    List<Transaction> transactions = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int kind = random.nextInt(CATEGORIES.length);
+      double amount = kind == CATEGORIES.length - 1 ? -random.nextInt(1000, 5000) : random.nextInt(1, 300) + 0.99;
+      Transaction txn = new Transaction();
+      txn.setUserId(USER_ID);
+      txn.setPlaidId("bench-txn-" + i);
+      txn.setName(MERCHANTS[kind] + " #" + random.nextInt(1000));
+      txn.setAmount(amount);
+      txn.setNormalizedAmount(Math.abs(amount));
+      txn.setDate(START.plusDays(random.nextInt(365)));
+      txn.setCategory(CATEGORIES[kind]);
+      txn.setMerchantName(MERCHANTS[kind]);
+      txn.setTransactionType(amount < 0 ? "income" : "expense");
+      txn.setAccountType("checking");
+      txn.setAccountSubtype("checking");
+      txn.setCategorySource("plaid");
+      txn.setTags(i % 4 == 0 ? List.of("work", "reimbursable") : List.of());
+      txn.setPlaidItemId(1L);
+      txn.setPlaidAccountId(1L + random.nextInt(3));
+      transactions.add(txn);
+    }
+    return transactions;
+  }
+
+  static List<Account> accounts(int count) {
+    List<Account> accounts = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Account account = new Account();
+      account.setUserId(USER_ID);
+      account.setAccountId("bench-acc-" + i);
+      account.setName("Account " + i);
+      account.setOfficialName("Bench Bank Account " + i);
+      account.setType(i % 3 == 0 ? "credit" : "depository");
+      account.setSubtype(i % 3 == 0 ? "credit card" : "checking");
+      account.setAccountType(i % 3 == 0 ? "credit" : "checking");
+      account.setBalance(1000 + i * 250.5);
+      account.setAvailableBalance(900 + i * 250.5);
+      account.setBalanceLastUpdated(Instant.parse("2024-06-01T00:00:00Z"));
+      account.setActive(true);
+      account.setPlaidItemId(1L);
+      accounts.add(account);
+    }
+    return accounts;
+  }
+
+  static List<com.plaid.client.model.Transaction> plaidTransactions(int count) {
+    SplittableRandom random = new SplittableRandom(42);
+    List<com.plaid.client.model.Transaction> transactions = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int kind = random.nextInt(CATEGORIES.length);
+      double amount = kind == CATEGORIES.length - 1 ? -random.nextInt(1000, 5000) : random.nextInt(1, 300) + 0.99;
+      transactions.add(new com.plaid.client.model.Transaction()
+          .transactionId("bench-txn-" + i)
+          .accountId("bench-acc-" + random.nextInt(3))
+          .name(MERCHANTS[kind])
+          .merchantName(MERCHANTS[kind])
+          .amount(amount)
+          .isoCurrencyCode("USD")
+          .date(START.plusDays(random.nextInt(365)))
+          .category(List.of("Shops", CATEGORIES[kind]))
+          .pending(false));
+    }
+    return transactions;
+  }
+}
@@ -0,0 +1,57 @@
+package com.fintrack.bench.jmh;
+
+import com.fintrack.accounts.AccountDimensions;
+import com.fintrack.plaid.PlaidItem;
+import com.fintrack.plaid.PlaidTransactionMapper;
+import com.fintrack.transactions.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping one 500-transaction sync page from Plaid's model onto Transaction entities, as each sync
+ * page does before its upsert.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaidMappingBenchmark {
+  private List<com.plaid.client.model.Transaction> page;
+  private PlaidItem item;
+  private Map<String, AccountDimensions> accounts;
+
+  @Setup
+  public void setUp() {
+    page = Fixtures.plaidTransactions(500);
+    item = new PlaidItem();
+    accounts = Map.of(
+        "bench-acc-0", new AccountDimensions(1L, "bench-acc-0", "checking", "checking"),
+        "bench-acc-1", new AccountDimensions(2L, "bench-acc-1", "checking", "savings"),
+        "bench-acc-2", new AccountDimensions(3L, "bench-acc-2", "credit", "credit card"));
+  }
+
+  @Benchmark
+  public List<Transaction> mapPage() {
+    List<Transaction> transactions = new ArrayList<>(page.size());
+    for (com.plaid.client.model.Transaction plaidTxn : page) {
+      transactions.add(PlaidTransactionMapper.toTransaction(
+          plaidTxn, item, Fixtures.USER_ID, accounts.get(plaidTxn.getAccountId())));
+    }
+    return transactions;
+  }
+}
@@ -0,0 +1,59 @@
+package com.fintrack.bench.jmh;
+
+import com.fintrack.transactions.Transaction;
+import com.fintrack.transactions.TransactionFilter;
+import com.fintrack.transactions.TransactionSpecifications;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assembling the Specification for a GET /api/transactions filter, as getTransactions does before
+ * every (uncached) query: {@code none} is the bare user filter, {@code dates} a date range and
+ * {@code full} every filter at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationBenchmark {
+  @Param({"none", "dates", "full"})
+  public String shape;
+
+  private TransactionFilter filter;
+
+  @Setup
+  public void setUp() {
+    LocalDate start = LocalDate.of(2024, 1, 1);
+    LocalDate end = LocalDate.of(2024, 12, 31);
+    filter = switch (shape) {
+      case "none" -> new TransactionFilter(null, null, null, null, null, null, null,
+          null, null, false, false, false);
+      case "dates" -> new TransactionFilter(start, end, null, null, null, null, null,
+          null, null, false, false, false);
+      case "full" -> new TransactionFilter(start, end, List.of("Groceries", "Restaurants"), List.of("checking"),
+          List.of("expense"), "whole", "organic", 5.0, 500.0, true, true, false);
+      default -> throw new IllegalArgumentException("Unknown shape: " + shape);
+    };
+  }
+
+  @Benchmark
+  public Specification<Transaction> assemble() {
+    return TransactionSpecifications.forFilter(Fixtures.USER_ID, filter.normalized());
+  }
+}
@@ -0,0 +1,79 @@
+package com.fintrack.accounts;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+
+/**
+ * Upserts the accounts returned by Plaid in one JDBC batch keyed on the unique account_id index.
+ * User preferences (display name, color, hidden, active) are not part of the statement and survive
+ * every sync.
+ */
+@Repository
+public class AccountBulkWriter {
+  private static final String UPSERT_SQL = """
+      insert into accounts (
+        user_id, account_id, name, official_name, type, subtype, account_type,
+        balance, available_balance, credit_limit, balance_last_updated, plaid_item_id,
+        created_at, updated_at
+      ) values (
+        :userId, :accountId, :name, :officialName, :type, :subtype, :accountType,
+        :balance, :availableBalance, :creditLimit, :balanceLastUpdated, :plaidItemId,
+        now(), now()
+      )
+      on conflict (account_id) do update set
+        user_id = excluded.user_id,
+        name = excluded.name,
+        official_name = excluded.official_name,
+        type = excluded.type,
+        subtype = excluded.subtype,
+        account_type = excluded.account_type,
+        balance = excluded.balance,
+        available_balance = excluded.available_balance,
+        credit_limit = excluded.credit_limit,
+        balance_last_updated = excluded.balance_last_updated,
+        plaid_item_id = excluded.plaid_item_id,
+        updated_at = excluded.updated_at
+      """;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final AccountSummaryCache summaryCache;
+
+  public AccountBulkWriter(NamedParameterJdbcTemplate jdbcTemplate, AccountSummaryCache summaryCache) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.summaryCache = summaryCache;
+  }
+
+  public int upsertAll(Collection<Account> accounts) {
+    if (accounts.isEmpty()) {
+      return 0;
+    }
+    SqlParameterSource[] batch = accounts.stream()
+        .map(AccountBulkWriter::toParameters)
+        .toArray(SqlParameterSource[]::new);
+    jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+    accounts.stream().map(Account::getUserId).distinct().forEach(summaryCache::invalidate);
+    return batch.length;
+  }
+
+  private static SqlParameterSource toParameters(Account account) {
+    return new MapSqlParameterSource()
+        .addValue("userId", account.getUserId())
+        .addValue("accountId", account.getAccountId())
+        .addValue("name", account.getName())
+        .addValue("officialName", account.getOfficialName())
+        .addValue("type", account.getType())
+        .addValue("subtype", account.getSubtype())
+        .addValue("accountType", account.getAccountType())
+        .addValue("balance", account.getBalance())
+        .addValue("availableBalance", account.getAvailableBalance())
+        .addValue("creditLimit", account.getCreditLimit())
+        .addValue("balanceLastUpdated",
+            account.getBalanceLastUpdated() != null ? Timestamp.from(account.getBalanceLastUpdated()) : null)
+        .addValue("plaidItemId", account.getPlaidItemId());
+  }
+}
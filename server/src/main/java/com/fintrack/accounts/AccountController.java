@@ -1,6 +1,7 @@
 package com.fintrack.accounts;
 
 import com.fintrack.accounts.dto.AccountDto;
+import com.fintrack.accounts.dto.AccountSummaryDto;
 import com.fintrack.accounts.dto.AccountUpdateRequest;
 import com.fintrack.common.ApiResponse;
 import com.fintrack.security.AuthUtils;
@@ -38,6 +39,12 @@ public class AccountController {
     return ResponseEntity.ok(ApiResponse.success(accounts));
   }
 
+  @GetMapping("/accounts/summary")
+  public ResponseEntity<ApiResponse<AccountSummaryDto>> getSummary(Authentication authentication) {
+    String userId = AuthUtils.requireUserId(authentication);
+    return ResponseEntity.ok(ApiResponse.success(accountService.getSummary(userId)));
+  }
+
   @PutMapping("/accounts/{accountId}/preferences")
   public ResponseEntity<ApiResponse<AccountDto>> updatePreferences(@PathVariable String accountId,
                                                                    @Valid @RequestBody AccountUpdateRequest request,
@@ -0,0 +1,6 @@
+package com.fintrack.accounts;
+
+/**
+ * The account fields copied onto each synced transaction.
+ */
+public record AccountDimensions(Long id, String accountId, String accountType, String accountSubtype) {}
@@ -1,11 +1,29 @@
 package com.fintrack.accounts;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
   List<Account> findByUserId(String userId);
   Optional<Account> findByAccountId(String accountId);
+
+  @Query("""
+      select new com.fintrack.accounts.AccountDimensions(a.id, a.accountId, a.accountType, a.accountSubtype)
+      from Account a
+      where a.accountId in :accountIds
+      """)
+  List<AccountDimensions> findDimensionsByAccountIdIn(@Param("accountIds") Collection<String> accountIds);
+
+  @Query("""
+      select new com.fintrack.accounts.AccountTypeTotal(a.accountType, sum(a.balance), count(a))
+      from Account a
+      where a.userId = :userId and a.isActive = true and a.isHidden = false
+      group by a.accountType
+      """)
+  List<AccountTypeTotal> sumVisibleBalancesByType(@Param("userId") String userId);
 }
@@ -1,23 +1,54 @@
 package com.fintrack.accounts;
 
+import com.fintrack.accounts.dto.AccountSummaryDto;
 import com.fintrack.accounts.dto.AccountUpdateRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class AccountService {
+  private static final List<String> BREAKDOWN_TYPES = List.of("checking", "savings", "credit", "investment", "loan");
+  private static final Set<String> LIABILITY_TYPES = Set.of("credit", "loan");
+
   private final AccountRepository accountRepository;
+  private final AccountSummaryCache summaryCache;
 
-  public AccountService(AccountRepository accountRepository) {
+  public AccountService(AccountRepository accountRepository, AccountSummaryCache summaryCache) {
     this.accountRepository = accountRepository;
+    this.summaryCache = summaryCache;
   }
 
   public List<Account> getAccountsForUser(String userId) {
     return accountRepository.findByUserId(userId);
   }
 
+  /**
+   * Net worth, assets, liabilities and balance per account type over the user's active accounts
+   * they haven't hidden. Credit and loan balances count as liabilities.
+   */
+  public AccountSummaryDto getSummary(String userId) {
+    return summaryCache.get(userId, () -> {
+      AccountSummaryDto summary = new AccountSummaryDto();
+      BREAKDOWN_TYPES.forEach(type -> summary.accountBreakdown.put(type, 0.0));
+      for (AccountTypeTotal total : accountRepository.sumVisibleBalancesByType(userId)) {
+        double balance = total.balance() != null ? total.balance() : 0;
+        String type = total.accountType() != null ? total.accountType() : "other";
+        summary.accountBreakdown.merge(type, balance, Double::sum);
+        summary.accountCount += total.accountCount();
+        if (LIABILITY_TYPES.contains(type)) {
+          summary.totalLiabilities += Math.abs(balance);
+        } else {
+          summary.totalAssets += balance;
+        }
+      }
+      summary.netWorth = summary.totalAssets - summary.totalLiabilities;
+      return summary;
+    });
+  }
+
   public Account updatePreferences(String accountId, AccountUpdateRequest request) {
     Account account = accountRepository.findByAccountId(accountId)
         .orElseThrow(() -> new IllegalArgumentException("Account not found"));
@@ -37,6 +68,10 @@ public class AccountService {
       account.setAvailableBalance(request.availableBalance);
     }
     account.setBalanceLastUpdated(Instant.now());
-    return accountRepository.save(account);
+    Account saved = accountRepository.save(account);
+    if (request.isHidden != null || request.balance != null) {
+      summaryCache.invalidate(saved.getUserId());
+    }
+    return saved;
   }
 }
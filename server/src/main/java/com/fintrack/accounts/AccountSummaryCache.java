@@ -0,0 +1,66 @@
+package com.fintrack.accounts;
+
+import com.fintrack.accounts.dto.AccountSummaryDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches each user's account summary. Balance changes bump the user's version, which is part of the
+ * cache key, so a summary computed from older balances is never read again. The TTL bounds staleness
+ * from writes made by other instances.
+ */
+@Component
+public class AccountSummaryCache {
+  private final Cache<Key, AccountSummaryDto> summaries;
+  private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+  public AccountSummaryCache(@Value("${app.accounts.summary-cache.max-size:10000}") long maxSize,
+                             @Value("${app.accounts.summary-cache.ttl:PT10M}") Duration ttl) {
+    this.summaries = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  public AccountSummaryDto get(String userId, Supplier<AccountSummaryDto> summary) {
+    // Read the version before computing: a write that lands meanwhile moves readers to a new key
+    Key key = new Key(userId, version(userId).get());
+    return summaries.get(key, k -> summary.get());
+  }
+
+  /**
+   * Invalidates the user's summary, after the surrounding transaction completes if there is one
+   * (before that, other readers still see the old balances).
+   */
+  public void invalidate(String userId) {
+    if (userId == null) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          version(userId).incrementAndGet();
+        }
+      });
+    } else {
+      version(userId).incrementAndGet();
+    }
+  }
+
+  private AtomicLong version(String userId) {
+    return versions.computeIfAbsent(userId, id -> new AtomicLong());
+  }
+
+  private record Key(String userId, long version) {}
+}
@@ -0,0 +1,6 @@
+package com.fintrack.accounts;
+
+/**
+ * Sum of a user's visible, active account balances for one account type.
+ */
+public record AccountTypeTotal(String accountType, Double balance, Long accountCount) {}
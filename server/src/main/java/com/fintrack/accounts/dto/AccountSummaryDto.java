@@ -0,0 +1,13 @@
+package com.fintrack.accounts.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class AccountSummaryDto {
+  public double netWorth;
+  public double totalAssets;
+  public double totalLiabilities;
+  public long accountCount;
+  // Balance per account type; the types the client charts are always present
+  public Map<String, Double> accountBreakdown = new LinkedHashMap<>();
+}
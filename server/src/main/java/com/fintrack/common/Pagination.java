@@ -3,18 +3,32 @@ package com.fintrack.common;
 public class Pagination {
   private int page;
   private int limit;
-  private long total;
+  private Long total;
   private boolean hasMore;
+  private boolean totalEstimated;
+  private String nextCursor;
 
   public Pagination() {}
 
-  public Pagination(int page, int limit, long total, boolean hasMore) {
+  public Pagination(int page, int limit, Long total, boolean hasMore) {
     this.page = page;
     this.limit = limit;
     this.total = total;
     this.hasMore = hasMore;
   }
 
+  /**
+   * Cursor-mode pagination: no page number or total, just the cursor of the next page (null on
+   * the last page).
+   */
+  public static Pagination cursor(int limit, String nextCursor) {
+    Pagination pagination = new Pagination();
+    pagination.limit = limit;
+    pagination.hasMore = nextCursor != null;
+    pagination.nextCursor = nextCursor;
+    return pagination;
+  }
+
   public int getPage() {
     return page;
   }
@@ -31,11 +45,11 @@ public class Pagination {
     this.limit = limit;
   }
 
-  public long getTotal() {
+  public Long getTotal() {
     return total;
   }
 
-  public void setTotal(long total) {
+  public void setTotal(Long total) {
     this.total = total;
   }
 
@@ -46,4 +60,20 @@ public class Pagination {
   public void setHasMore(boolean hasMore) {
     this.hasMore = hasMore;
   }
+
+  public boolean isTotalEstimated() {
+    return totalEstimated;
+  }
+
+  public void setTotalEstimated(boolean totalEstimated) {
+    this.totalEstimated = totalEstimated;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
 }
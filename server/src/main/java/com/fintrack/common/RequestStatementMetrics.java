@@ -0,0 +1,75 @@
+package com.fintrack.common;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares while handling each request, so endpoints that
+ * drift into N+1 queries show up in metrics. Registered as Hibernate's statement inspector; runs
+ * first among the servlet filters so user provisioning is counted too. Statements issued through
+ * JdbcTemplate bypass Hibernate and are not counted.
+ *
+ * <p>Metrics: {@code http.server.requests.statements} summary per request (tags: method, uri).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestStatementMetrics extends OncePerRequestFilter
+    implements StatementInspector, HibernatePropertiesCustomizer {
+  private final MeterRegistry meterRegistry;
+  // Statements prepared by the current thread during the current request
+  private final ThreadLocal<int[]> statements = new ThreadLocal<>();
+
+  public RequestStatementMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void customize(Map<String, Object> hibernateProperties) {
+    hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+  }
+
+  @Override
+  public String inspect(String sql) {
+    int[] count = statements.get();
+    if (count != null) {
+      count[0]++;
+    }
+    return sql;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain)
+      throws ServletException, IOException {
+    int[] count = new int[1];
+    statements.set(count);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      statements.remove();
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      DistributionSummary.builder("http.server.requests.statements")
+          .tag("method", request.getMethod())
+          .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+          .baseUnit("statements")
+          .register(meterRegistry)
+          .record(count[0]);
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.fintrack.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Exposes pg_trgm's word-similarity operator to criteria queries as
+ * {@code trgm_word_match(term, text)}, rendered as {@code term <% text} so trigram GIN indexes apply.
+ * Registered through META-INF/services.
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+  @Override
+  public void contributeFunctions(FunctionContributions functionContributions) {
+    BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+        .getBasicTypeRegistry()
+        .resolve(StandardBasicTypes.BOOLEAN);
+    functionContributions.getFunctionRegistry()
+        .registerPattern("trgm_word_match", "(?1 <% ?2)", booleanType);
+  }
+}
@@ -1,5 +1,16 @@
 package com.fintrack.config;
 
+import com.fintrack.security.CachingJwtDecoder;
+import com.fintrack.security.JwkSetCache;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.DefaultJOSEObjectTypeVerifier;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,6 +28,7 @@ import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationFilter;
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -41,6 +53,10 @@ public class SecurityConfig {
         .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .authorizeHttpRequests(auth -> auth
             .requestMatchers("/api/health").permitAll()
+            // Served on the management port, which is not exposed with the API
+            .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+            // Authenticated by the Plaid-Verification signature instead of a user JWT
+            .requestMatchers("/api/plaid/webhook").permitAll()
             .anyRequest().authenticated()
         )
         .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
@@ -50,8 +66,27 @@ public class SecurityConfig {
   }
 
   @Bean
-  public JwtDecoder jwtDecoder() {
-    NimbusJwtDecoder decoder = NimbusJwtDecoder.withIssuerLocation(issuerUri).build();
+  public JwtDecoder jwtDecoder(JwkSetCache jwkSetCache,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.security.jwt-cache.max-size:10000}") long cacheMaxSize,
+                               @Value("${app.security.jwt-cache.expiry-skew:PT30S}") Duration cacheExpirySkew) {
+    return new CachingJwtDecoder(verifyingDecoder(jwkSetCache, issuerUri, audience),
+        meterRegistry, cacheMaxSize, cacheExpirySkew);
+  }
+
+  /**
+   * Verifies RS256 signatures against {@code keys} and checks expiry, issuer and audience.
+   */
+  public static NimbusJwtDecoder verifyingDecoder(JWKSource<SecurityContext> keys, String issuerUri, String audience) {
+    DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+    jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, keys));
+    jwtProcessor.setJWSTypeVerifier(
+        new DefaultJOSEObjectTypeVerifier<>(JOSEObjectType.JWT, new JOSEObjectType("at+jwt"), null));
+    // Claims are checked by the validators below
+    jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+    });
+    NimbusJwtDecoder decoder = new NimbusJwtDecoder(jwtProcessor);
+
     OAuth2TokenValidator<Jwt> withIssuer = JwtValidators.createDefaultWithIssuer(issuerUri);
     OAuth2TokenValidator<Jwt> withAudience = token -> {
       List<String> audiences = token.getAudience();
@@ -0,0 +1,66 @@
+package com.fintrack.dashboard;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * One-off maintenance for the daily rollups: starts the app, runs the command and exits.
+ * {@code verify} exits non-zero if the rollup disagrees with the transactions; {@code rebuild}
+ * recomputes it and verifies the result.
+ *
+ * <pre>
+ * mvn spring-boot:run -Dspring-boot.run.arguments="--app.rollups.command=verify"
+ * java -jar fintrack.jar --app.rollups.command=rebuild
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "app.rollups.command")
+public class DailyRollupCommand implements ApplicationRunner {
+  private static final Logger log = LoggerFactory.getLogger(DailyRollupCommand.class);
+  private static final int MAX_REPORTED = 50;
+
+  private final DailyRollups dailyRollups;
+  private final ConfigurableApplicationContext context;
+
+  public DailyRollupCommand(DailyRollups dailyRollups, ConfigurableApplicationContext context) {
+    this.dailyRollups = dailyRollups;
+    this.context = context;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    String command = context.getEnvironment().getProperty("app.rollups.command", "");
+    int exitCode = switch (command) {
+      case "verify" -> verify();
+      case "rebuild" -> {
+        log.info("Rebuilt daily rollups: {} rows", dailyRollups.rebuild());
+        yield verify();
+      }
+      default -> {
+        log.error("Unknown app.rollups.command '{}' (expected verify or rebuild)", command);
+        yield 2;
+      }
+    };
+    System.exit(SpringApplication.exit(context, () -> exitCode));
+  }
+
+  private int verify() {
+    List<DailyRollups.Mismatch> mismatches = dailyRollups.verify(MAX_REPORTED);
+    if (mismatches.isEmpty()) {
+      log.info("Daily rollups match transactions");
+      return 0;
+    }
+    mismatches.forEach(mismatch -> log.warn("Rollup mismatch: {}", mismatch));
+    log.error("Daily rollups disagree with transactions ({}{} rows); run with app.rollups.command=rebuild",
+        mismatches.size(), mismatches.size() == MAX_REPORTED ? "+" : "");
+    return 1;
+  }
+}
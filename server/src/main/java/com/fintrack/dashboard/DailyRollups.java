@@ -0,0 +1,107 @@
+package com.fintrack.dashboard;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reconciles transaction_daily_rollups with the transactions it summarizes. The triggers keep it
+ * current on every write; these are for checking that they did, and for repairing it if not.
+ */
+@Repository
+public class DailyRollups {
+  // The raw aggregate, shaped exactly like the rollup rows the triggers maintain
+  private static final String RAW_ROLLUP_SQL = """
+      select user_id,
+             date,
+             coalesce(category, '') as category,
+             coalesce(transaction_type, '') as transaction_type,
+             coalesce(account_type, '') as account_type,
+             coalesce(is_excluded_from_budget, false) as is_excluded_from_budget,
+             sum(coalesce(normalized_amount, abs(amount), 0)::numeric) as amount,
+             count(*) as transaction_count
+      from transactions
+      where user_id is not null and date is not null
+      group by 1, 2, 3, 4, 5, 6
+      """;
+
+  private static final String MISMATCH_SQL = """
+      select coalesce(r.user_id, x.user_id) as user_id,
+             coalesce(r.date, x.date) as date,
+             coalesce(r.category, x.category) as category,
+             coalesce(r.transaction_type, x.transaction_type) as transaction_type,
+             coalesce(r.account_type, x.account_type) as account_type,
+             coalesce(r.is_excluded_from_budget, x.is_excluded_from_budget) as is_excluded_from_budget,
+             x.amount as expected_amount,
+             x.transaction_count as expected_count,
+             r.amount as actual_amount,
+             r.transaction_count as actual_count
+      from transaction_daily_rollups r
+      full join (%s) x
+        on x.user_id = r.user_id
+       and x.date = r.date
+       and x.category = r.category
+       and x.transaction_type = r.transaction_type
+       and x.account_type = r.account_type
+       and x.is_excluded_from_budget = r.is_excluded_from_budget
+      where r.amount is distinct from x.amount
+         or r.transaction_count is distinct from x.transaction_count
+      order by 1, 2
+      limit ?
+      """.formatted(RAW_ROLLUP_SQL);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public DailyRollups(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Rollup rows that disagree with the raw transactions (missing, extra or wrong totals), at most
+   * {@code limit} of them. Empty when the rollup is consistent.
+   */
+  @Transactional(readOnly = true)
+  public List<Mismatch> verify(int limit) {
+    return jdbcTemplate.query(MISMATCH_SQL, (rs, rowNum) -> new Mismatch(
+        rs.getString("user_id"),
+        rs.getDate("date").toLocalDate(),
+        rs.getString("category"),
+        rs.getString("transaction_type"),
+        rs.getString("account_type"),
+        rs.getBoolean("is_excluded_from_budget"),
+        rs.getBigDecimal("expected_amount"),
+        rs.getObject("expected_count", Long.class),
+        rs.getBigDecimal("actual_amount"),
+        rs.getObject("actual_count", Long.class)), limit);
+  }
+
+  /**
+   * Recomputes the whole rollup from transactions. Writers to transactions wait until it commits so
+   * no change lands between the delete and the re-insert. Returns the number of rollup rows.
+   */
+  @Transactional
+  public int rebuild() {
+    jdbcTemplate.execute("lock table transactions in share row exclusive mode");
+    jdbcTemplate.update("delete from transaction_daily_rollups");
+    return jdbcTemplate.update("""
+        insert into transaction_daily_rollups
+          (user_id, date, category, transaction_type, account_type, is_excluded_from_budget, amount, transaction_count)
+        """ + RAW_ROLLUP_SQL);
+  }
+
+  public record Mismatch(String userId,
+                         LocalDate date,
+                         String category,
+                         String transactionType,
+                         String accountType,
+                         boolean excludedFromBudget,
+                         BigDecimal expectedAmount,
+                         Long expectedCount,
+                         BigDecimal actualAmount,
+                         Long actualCount) {
+  }
+}
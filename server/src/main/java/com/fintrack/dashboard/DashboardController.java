@@ -0,0 +1,38 @@
+package com.fintrack.dashboard;
+
+import com.fintrack.common.ApiResponse;
+import com.fintrack.dashboard.dto.DashboardSummaryDto;
+import com.fintrack.security.AuthUtils;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+  private final DashboardService dashboardService;
+
+  public DashboardController(DashboardService dashboardService) {
+    this.dashboardService = dashboardService;
+  }
+
+  /**
+   * Income vs. expenses, spending by category and monthly trends, aggregated in the database.
+   * Without dates it covers the last twelve months.
+   */
+  @GetMapping("/summary")
+  public ResponseEntity<ApiResponse<DashboardSummaryDto>> getSummary(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+      Authentication authentication
+  ) {
+    String userId = AuthUtils.requireUserId(authentication);
+    return ResponseEntity.ok(ApiResponse.success(dashboardService.getSummary(userId, startDate, endDate)));
+  }
+}
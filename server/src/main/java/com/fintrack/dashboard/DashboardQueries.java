@@ -0,0 +1,81 @@
+package com.fintrack.dashboard;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Dashboard aggregates, read from the per-day rollup (transaction_daily_rollups, kept current by
+ * triggers on transactions) rather than the raw rows. One pass over the user's rollup rows in the
+ * date range produces the overall totals, the per-category totals and the per-month totals via
+ * GROUPING SETS.
+ */
+@Repository
+public class DashboardQueries {
+  // Budget-excluded rows and transfers are not income or spending; '' is the rollup's null
+  private static final String SUMMARY_SQL = """
+      select grouping(category) = 0 as by_category,
+             grouping(month) = 0 as by_month,
+             category,
+             month,
+             coalesce(sum(amount) filter (where transaction_type = 'income'), 0) as income,
+             coalesce(sum(amount) filter (where transaction_type = 'expense'), 0) as expenses,
+             coalesce(sum(transaction_count) filter (where transaction_type = 'expense'), 0) as expense_count,
+             coalesce(sum(transaction_count), 0) as transaction_count
+      from (
+        select coalesce(nullif(category, ''), 'Uncategorized') as category,
+               cast(date_trunc('month', date) as date) as month,
+               transaction_type,
+               amount,
+               transaction_count
+        from transaction_daily_rollups
+        where user_id = :userId
+          and date between :startDate and :endDate
+          and not is_excluded_from_budget
+          and transaction_type <> 'transfer'
+      ) t
+      group by grouping sets ((), (category), (month))
+      """;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public DashboardQueries(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public List<Totals> summarize(String userId, LocalDate startDate, LocalDate endDate) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("userId", userId)
+        .addValue("startDate", Date.valueOf(startDate))
+        .addValue("endDate", Date.valueOf(endDate));
+    return jdbcTemplate.query(SUMMARY_SQL, params, (rs, rowNum) -> {
+      Date month = rs.getDate("month");
+      return new Totals(
+          rs.getBoolean("by_category") ? rs.getString("category") : null,
+          rs.getBoolean("by_month") && month != null ? month.toLocalDate() : null,
+          rs.getDouble("income"),
+          rs.getDouble("expenses"),
+          rs.getLong("expense_count"),
+          rs.getLong("transaction_count"));
+    });
+  }
+
+  /**
+   * One aggregate row: overall when both {@code category} and {@code month} are null, otherwise
+   * for that category or that month.
+   */
+  public record Totals(String category,
+                       LocalDate month,
+                       double income,
+                       double expenses,
+                       long expenseCount,
+                       long transactionCount) {
+    boolean isOverall() {
+      return category == null && month == null;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.fintrack.dashboard;
+
+import com.fintrack.dashboard.dto.DashboardSummaryDto;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class DashboardService {
+  // Guards against accidentally aggregating a user's whole history in one request
+  private static final int MAX_RANGE_YEARS = 5;
+
+  private final DashboardQueries dashboardQueries;
+
+  public DashboardService(DashboardQueries dashboardQueries) {
+    this.dashboardQueries = dashboardQueries;
+  }
+
+  /**
+   * Income vs. expenses, spending by category and totals per month for the range (inclusive).
+   * Defaults to the last twelve months. Transfers and budget-excluded transactions are left out.
+   */
+  public DashboardSummaryDto getSummary(String userId, LocalDate startDate, LocalDate endDate) {
+    LocalDate end = endDate != null ? endDate : LocalDate.now();
+    LocalDate start = startDate != null ? startDate : end.minusYears(1).plusDays(1);
+    if (start.isAfter(end)) {
+      throw new IllegalArgumentException("startDate must not be after endDate");
+    }
+    if (start.isBefore(end.minusYears(MAX_RANGE_YEARS))) {
+      throw new IllegalArgumentException("Date range must not exceed " + MAX_RANGE_YEARS + " years");
+    }
+
+    DashboardSummaryDto summary = new DashboardSummaryDto();
+    summary.periodStart = start;
+    summary.periodEnd = end;
+
+    Map<YearMonth, DashboardQueries.Totals> byMonth = new HashMap<>();
+    for (DashboardQueries.Totals totals : dashboardQueries.summarize(userId, start, end)) {
+      if (totals.isOverall()) {
+        summary.totalIncome = totals.income();
+        summary.totalExpenses = totals.expenses();
+        summary.netIncome = totals.income() - totals.expenses();
+        summary.transactionCount = totals.transactionCount();
+      } else if (totals.category() != null) {
+        if (totals.expenseCount() > 0) {
+          DashboardSummaryDto.CategorySpend category = new DashboardSummaryDto.CategorySpend();
+          category.category = totals.category();
+          category.amount = totals.expenses();
+          category.transactionCount = totals.expenseCount();
+          category.averageAmount = totals.expenses() / totals.expenseCount();
+          summary.categoryBreakdown.add(category);
+        }
+      } else {
+        byMonth.put(YearMonth.from(totals.month()), totals);
+      }
+    }
+
+    for (DashboardSummaryDto.CategorySpend category : summary.categoryBreakdown) {
+      category.percentage = summary.totalExpenses > 0 ? category.amount * 100 / summary.totalExpenses : 0;
+    }
+    summary.categoryBreakdown.sort(Comparator.comparingDouble((DashboardSummaryDto.CategorySpend c) -> c.amount).reversed());
+    summary.monthlyTrends = monthlyTrends(byMonth, YearMonth.from(start), YearMonth.from(end));
+    return summary;
+  }
+
+  // Every month of the range, including months without transactions, oldest first
+  private static List<DashboardSummaryDto.MonthlyTotals> monthlyTrends(Map<YearMonth, DashboardQueries.Totals> byMonth,
+                                                                       YearMonth first,
+                                                                       YearMonth last) {
+    List<DashboardSummaryDto.MonthlyTotals> trends = new ArrayList<>();
+    for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+      DashboardQueries.Totals totals = byMonth.get(month);
+      DashboardSummaryDto.MonthlyTotals trend = new DashboardSummaryDto.MonthlyTotals();
+      trend.month = month.toString();
+      if (totals != null) {
+        trend.income = totals.income();
+        trend.expenses = totals.expenses();
+        trend.netIncome = totals.income() - totals.expenses();
+        trend.transactionCount = totals.transactionCount();
+      }
+      trends.add(trend);
+    }
+    return trends;
+  }
+}
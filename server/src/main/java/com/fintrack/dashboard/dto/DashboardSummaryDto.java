@@ -0,0 +1,32 @@
+package com.fintrack.dashboard.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DashboardSummaryDto {
+  public LocalDate periodStart;
+  public LocalDate periodEnd;
+  public double totalIncome;
+  public double totalExpenses;
+  public double netIncome;
+  public long transactionCount;
+  public List<CategorySpend> categoryBreakdown = new ArrayList<>();
+  public List<MonthlyTotals> monthlyTrends = new ArrayList<>();
+
+  public static class CategorySpend {
+    public String category;
+    public double amount;
+    public double percentage;
+    public long transactionCount;
+    public double averageAmount;
+  }
+
+  public static class MonthlyTotals {
+    public String month; // YYYY-MM
+    public double income;
+    public double expenses;
+    public double netIncome;
+    public long transactionCount;
+  }
+}
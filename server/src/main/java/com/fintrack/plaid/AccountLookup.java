@@ -0,0 +1,44 @@
+package com.fintrack.plaid;
+
+import com.fintrack.accounts.AccountDimensions;
+import com.fintrack.accounts.AccountRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * accountId -> account dimensions for one item sync, built once from the accounts that were just
+ * upserted. Transactions for accounts Plaid did not return (closed or moved) fall back to a single
+ * lookup each, and misses are remembered as well.
+ */
+class AccountLookup {
+  private final AccountRepository accountRepository;
+  private final Map<String, Optional<AccountDimensions>> byAccountId = new HashMap<>();
+
+  private AccountLookup(AccountRepository accountRepository) {
+    this.accountRepository = accountRepository;
+  }
+
+  static AccountLookup load(AccountRepository accountRepository, Set<String> accountIds) {
+    AccountLookup lookup = new AccountLookup(accountRepository);
+    if (!accountIds.isEmpty()) {
+      List<AccountDimensions> found = accountRepository.findDimensionsByAccountIdIn(accountIds);
+      for (AccountDimensions dimensions : found) {
+        lookup.byAccountId.put(dimensions.accountId(), Optional.of(dimensions));
+      }
+    }
+    return lookup;
+  }
+
+  AccountDimensions get(String accountId) {
+    if (accountId == null) {
+      return null;
+    }
+    return byAccountId.computeIfAbsent(accountId, id ->
+        accountRepository.findDimensionsByAccountIdIn(List.of(id)).stream().findFirst()
+    ).orElse(null);
+  }
+}
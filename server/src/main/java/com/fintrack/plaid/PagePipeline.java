@@ -0,0 +1,86 @@
+package com.fintrack.plaid;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+
+/**
+ * Runs a page producer on another thread so fetching the next page overlaps with consuming the
+ * current one. Pages are handed over in order through a queue of {@code capacity} pages; the producer
+ * blocks when it is full, which caps memory at {@code capacity} pages in flight.
+ *
+ * <p>A producer failure is rethrown from {@link #take()} after the pages produced before it.
+ * Closing the pipeline cancels the producer.
+ */
+final class PagePipeline<T> implements AutoCloseable {
+  interface Producer<T> {
+    void produce(Sink<T> sink) throws InterruptedException;
+  }
+
+  interface Sink<T> {
+    void put(T page) throws InterruptedException;
+  }
+
+  private static final Object END = new Object();
+
+  private final BlockingQueue<Object> queue;
+  private final Future<?> task;
+  private boolean finished;
+
+  PagePipeline(AsyncTaskExecutor executor, int capacity, Producer<T> producer) {
+    this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    this.task = executor.submit(() -> {
+      try {
+        producer.produce(queue::put);
+        queue.put(END);
+      } catch (InterruptedException e) {
+        // Cancelled by close(); nobody is waiting for further pages
+        Thread.currentThread().interrupt();
+      } catch (RuntimeException | Error e) {
+        try {
+          queue.put(new Failure(e));
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+  }
+
+  /**
+   * Returns the next page, or {@code null} once the producer has finished.
+   */
+  @SuppressWarnings("unchecked")
+  T take() {
+    if (finished) {
+      return null;
+    }
+    Object next;
+    try {
+      next = queue.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the next page", e);
+    }
+    if (next == END) {
+      finished = true;
+      return null;
+    }
+    if (next instanceof Failure failure) {
+      finished = true;
+      if (failure.error() instanceof Error error) {
+        throw error;
+      }
+      throw (RuntimeException) failure.error();
+    }
+    return (T) next;
+  }
+
+  @Override
+  public void close() {
+    task.cancel(true);
+  }
+
+  private record Failure(Throwable error) {}
+}
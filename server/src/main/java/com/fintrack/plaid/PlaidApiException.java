@@ -0,0 +1,50 @@
+package com.fintrack.plaid;
+
+/**
+ * A failed Plaid call, carrying Plaid's error fields when the response had them. Network failures
+ * have {@code httpStatus} 0 and error type {@value #NETWORK_ERROR}.
+ */
+public class PlaidApiException extends RuntimeException {
+  public static final String NETWORK_ERROR = "NETWORK_ERROR";
+  public static final String CIRCUIT_OPEN = "CIRCUIT_OPEN";
+
+  private final String operation;
+  private final int httpStatus;
+  private final String errorType;
+  private final String errorCode;
+  private final String requestId;
+
+  public PlaidApiException(String operation, int httpStatus, String errorType, String errorCode,
+                           String message, String requestId, Throwable cause) {
+    super(message, cause);
+    this.operation = operation;
+    this.httpStatus = httpStatus;
+    this.errorType = errorType;
+    this.errorCode = errorCode;
+    this.requestId = requestId;
+  }
+
+  public String getOperation() { return operation; }
+  public int getHttpStatus() { return httpStatus; }
+  public String getErrorType() { return errorType; }
+  public String getErrorCode() { return errorCode; }
+  public String getRequestId() { return requestId; }
+
+  /**
+   * Rate limits, Plaid-side 5xx errors and network failures are worth retrying; anything else is a
+   * problem with the request or the item and will fail the same way again.
+   */
+  public boolean isRetryable() {
+    return httpStatus == 429
+        || httpStatus >= 500
+        || "RATE_LIMIT_EXCEEDED".equals(errorType)
+        || NETWORK_ERROR.equals(errorType);
+  }
+
+  /**
+   * The user has to go through Link update mode before the item can sync again.
+   */
+  public boolean requiresReauth() {
+    return "ITEM_LOGIN_REQUIRED".equals(errorCode) || "PENDING_EXPIRATION".equals(errorCode);
+  }
+}
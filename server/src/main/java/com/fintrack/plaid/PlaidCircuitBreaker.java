@@ -0,0 +1,51 @@
+package com.fintrack.plaid;
+
+import java.time.Duration;
+
+/**
+ * Consecutive-failure circuit breaker for one Plaid operation. After {@code failureThreshold}
+ * failed calls in a row (a call counts once, however many attempts it retried) the circuit opens and
+ * calls fail fast for {@code openDuration}; then a single trial call is let through and its outcome
+ * closes or re-opens the circuit. Every acquired call must report exactly one outcome, including
+ * when it ends in an Error, or a half-open circuit keeps its trial slot forever.
+ */
+class PlaidCircuitBreaker {
+  enum State { CLOSED, OPEN, HALF_OPEN }
+
+  private final int failureThreshold;
+  private final long openNanos;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAt;
+
+  PlaidCircuitBreaker(int failureThreshold, Duration openDuration) {
+    this.failureThreshold = failureThreshold;
+    this.openNanos = openDuration.toNanos();
+  }
+
+  synchronized boolean tryAcquire() {
+    if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+      state = State.HALF_OPEN;
+      return true;
+    }
+    return state == State.CLOSED;
+  }
+
+  synchronized void onSuccess() {
+    state = State.CLOSED;
+    consecutiveFailures = 0;
+  }
+
+  synchronized void onFailure() {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+      state = State.OPEN;
+      openedAt = System.nanoTime();
+    }
+  }
+
+  synchronized State getState() {
+    return state;
+  }
+}
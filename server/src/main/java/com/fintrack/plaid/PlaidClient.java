@@ -0,0 +1,204 @@
+package com.fintrack.plaid;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Executes {@link com.plaid.client.request.PlaidApi} calls with retries, a per-operation circuit
+ * breaker and metrics, and turns failures into {@link PlaidApiException}s.
+ *
+ * <p>Retryable failures (rate limits, 5xx, network errors) are retried up to {@code max-attempts}
+ * times with exponential backoff and full jitter. Only operations listed in {@code retry-operations}
+ * are retried, since some Plaid calls (such as exchanging a single-use public token) must not be
+ * repeated blindly.
+ *
+ * <p>Metrics: {@code plaid.client.requests} timer per attempt (tags: operation, outcome),
+ * {@code plaid.client.retries} counter and {@code plaid.client.circuit.open} gauge per operation.
+ */
+@Component
+public class PlaidClient {
+  private static final Logger log = LoggerFactory.getLogger(PlaidClient.class);
+
+  private final MeterRegistry meterRegistry;
+  private final ObjectMapper objectMapper;
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final Set<String> retryOperations;
+  private final int breakerFailureThreshold;
+  private final Duration breakerOpenDuration;
+
+  private final Map<String, PlaidCircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+  public PlaidClient(MeterRegistry meterRegistry,
+                     ObjectMapper objectMapper,
+                     @Value("${app.plaid.client.max-attempts:4}") int maxAttempts,
+                     @Value("${app.plaid.client.initial-backoff:PT0.5S}") Duration initialBackoff,
+                     @Value("${app.plaid.client.max-backoff:PT10S}") Duration maxBackoff,
+                     @Value("${app.plaid.client.retry-operations:transactionsSync,accountsGet,linkTokenCreate,webhookVerificationKeyGet}")
+                     String[] retryOperations,
+                     @Value("${app.plaid.client.circuit-breaker.failure-threshold:5}") int breakerFailureThreshold,
+                     @Value("${app.plaid.client.circuit-breaker.open-duration:PT30S}") Duration breakerOpenDuration) {
+    this.meterRegistry = meterRegistry;
+    this.objectMapper = objectMapper;
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    this.retryOperations = Set.of(retryOperations);
+    this.breakerFailureThreshold = breakerFailureThreshold;
+    this.breakerOpenDuration = breakerOpenDuration;
+  }
+
+  /**
+   * Executes the call (cloning it for each retry) and returns the response body.
+   *
+   * @param operation PlaidApi method name, used for metrics, breaker and retry policy
+   */
+  public <T> T execute(String operation, Call<T> call) {
+    PlaidCircuitBreaker breaker = breakerFor(operation);
+    if (!breaker.tryAcquire()) {
+      record(operation, "circuit_open", 0);
+      throw new PlaidApiException(operation, 0, PlaidApiException.CIRCUIT_OPEN, null,
+          "Plaid " + operation + " is temporarily unavailable", null, null);
+    }
+
+    // The breaker hears once per logical call, after its retries, whatever it throws; otherwise an
+    // Error in a half-open trial would leave the circuit half-open with its trial slot taken
+    boolean healthy = false;
+    try {
+      T body = executeWithRetries(operation, call, breaker);
+      healthy = true;
+      return body;
+    } catch (PlaidApiException e) {
+      // The endpoint answered; a bad request or item state says nothing about its health
+      healthy = !e.isRetryable();
+      throw e;
+    } finally {
+      if (healthy) {
+        breaker.onSuccess();
+      } else {
+        breaker.onFailure();
+      }
+    }
+  }
+
+  private <T> T executeWithRetries(String operation, Call<T> call, PlaidCircuitBreaker breaker) {
+    boolean retryable = retryOperations.contains(operation);
+
+    for (int attempt = 1; ; attempt++) {
+      PlaidApiException failure;
+      long start = System.nanoTime();
+      try {
+        Response<T> response = (attempt == 1 ? call : call.clone()).execute();
+        if (response.isSuccessful()) {
+          record(operation, "success", System.nanoTime() - start);
+          return response.body();
+        }
+        failure = toException(operation, response);
+      } catch (IOException e) {
+        failure = new PlaidApiException(operation, 0, PlaidApiException.NETWORK_ERROR, null,
+            "Plaid " + operation + " failed: " + e.getMessage(), null, e);
+      } catch (RuntimeException e) {
+        record(operation, "client_exception", System.nanoTime() - start);
+        throw e;
+      }
+      record(operation, outcome(failure), System.nanoTime() - start);
+
+      // Other calls may have opened the circuit meanwhile; stop adding load to the endpoint
+      if (!failure.isRetryable() || !retryable || attempt >= maxAttempts
+          || breaker.getState() == PlaidCircuitBreaker.State.OPEN) {
+        throw failure;
+      }
+
+      Duration backoff = backoff(attempt);
+      log.debug("Retrying Plaid {} after {} (attempt {}): {}", operation, backoff, attempt, failure.getMessage());
+      Counter.builder("plaid.client.retries").tag("operation", operation).register(meterRegistry).increment();
+      sleep(backoff, failure);
+    }
+  }
+
+  private PlaidApiException toException(String operation, Response<?> response) {
+    String body = null;
+    String errorType = null;
+    String errorCode = null;
+    String message = null;
+    String requestId = null;
+    try {
+      if (response.errorBody() != null) {
+        body = response.errorBody().string();
+        JsonNode json = objectMapper.readTree(body);
+        errorType = json.path("error_type").asText(null);
+        errorCode = json.path("error_code").asText(null);
+        message = json.path("error_message").asText(null);
+        requestId = json.path("request_id").asText(null);
+      }
+    } catch (IOException | RuntimeException e) {
+      // Not a Plaid error body (e.g. a proxy error page); fall back to the raw text below
+    }
+    if (message == null) {
+      message = body != null && !body.isBlank() ? body : "HTTP " + response.code();
+    }
+    return new PlaidApiException(operation, response.code(), errorType, errorCode,
+        "Plaid " + operation + " failed: " + message, requestId, null);
+  }
+
+  private Duration backoff(int attempt) {
+    long ceiling = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+    return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+  }
+
+  private static void sleep(Duration backoff, PlaidApiException failure) {
+    try {
+      Thread.sleep(backoff.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw failure;
+    }
+  }
+
+  private static String outcome(PlaidApiException failure) {
+    if (PlaidApiException.NETWORK_ERROR.equals(failure.getErrorType())) {
+      return "network_error";
+    }
+    if (failure.getHttpStatus() == 429 || "RATE_LIMIT_EXCEEDED".equals(failure.getErrorType())) {
+      return "rate_limited";
+    }
+    return failure.getHttpStatus() >= 500 ? "server_error" : "client_error";
+  }
+
+  private void record(String operation, String outcome, long nanos) {
+    Timer.builder("plaid.client.requests")
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(Duration.ofNanos(nanos));
+  }
+
+  private PlaidCircuitBreaker breakerFor(String operation) {
+    return breakers.computeIfAbsent(operation, op -> {
+      PlaidCircuitBreaker breaker = new PlaidCircuitBreaker(breakerFailureThreshold, breakerOpenDuration);
+      Gauge.builder("plaid.client.circuit.open", breaker, b -> b.getState() == PlaidCircuitBreaker.State.CLOSED ? 0 : 1)
+          .tag("operation", op)
+          .register(meterRegistry);
+      return breaker;
+    });
+  }
+}
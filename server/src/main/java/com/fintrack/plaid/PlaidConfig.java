@@ -2,11 +2,16 @@ package com.fintrack.plaid;
 
 import com.plaid.client.ApiClient;
 import com.plaid.client.request.PlaidApi;
+import okhttp3.ConnectionPool;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class PlaidConfig {
@@ -19,6 +24,37 @@ public class PlaidConfig {
   @Value("${app.plaid.env}")
   private String env;
 
+  @Value("${app.plaid.client.max-idle-connections:20}")
+  private int maxIdleConnections;
+
+  @Value("${app.plaid.client.keep-alive:PT5M}")
+  private Duration keepAlive;
+
+  @Value("${app.plaid.client.connect-timeout:PT5S}")
+  private Duration connectTimeout;
+
+  // transactions/sync pages for large items can take well over OkHttp's 10s default
+  @Value("${app.plaid.client.read-timeout:PT60S}")
+  private Duration readTimeout;
+
+  @Value("${app.plaid.client.call-timeout:PT90S}")
+  private Duration callTimeout;
+
+  @Value("${app.plaid.sync.item-concurrency:4}")
+  private int itemConcurrency;
+
+  @Value("${app.plaid.sync.item-queue-capacity:100}")
+  private int itemQueueCapacity;
+
+  @Value("${app.plaid.sync.fetch-concurrency:8}")
+  private int fetchConcurrency;
+
+  @Value("${app.plaid.sync.job-concurrency:2}")
+  private int jobConcurrency;
+
+  @Value("${app.plaid.sync.job-queue-capacity:1000}")
+  private int jobQueueCapacity;
+
   @Bean
   public PlaidApi plaidApi() {
     HashMap<String, String> apiKeys = new HashMap<>();
@@ -27,9 +63,65 @@ public class PlaidConfig {
 
     ApiClient apiClient = new ApiClient(apiKeys);
     apiClient.setPlaidAdapter(getPlaidAdapter(env));
+    // Sized for concurrent item syncs; retries and metrics are handled by PlaidClient
+    apiClient.getOkBuilder()
+        .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+        .connectTimeout(connectTimeout)
+        .readTimeout(readTimeout)
+        .writeTimeout(connectTimeout)
+        .callTimeout(callTimeout)
+        .retryOnConnectionFailure(true);
     return apiClient.createService(PlaidApi.class);
   }
 
+  /**
+   * Bounded pool used to sync a user's items in parallel. When it is saturated the calling
+   * thread runs the item itself, which throttles callers instead of rejecting work.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor plaidSyncExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("plaid-sync-");
+    executor.setCorePoolSize(itemConcurrency);
+    executor.setMaxPoolSize(itemConcurrency);
+    executor.setQueueCapacity(itemQueueCapacity);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+
+  /**
+   * Prefetches transactions/sync pages while the item's thread writes the previous page. A prefetch
+   * only ever waits on its own writer, so queueing here when all threads are busy cannot deadlock.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor plaidFetchExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("plaid-fetch-");
+    executor.setCorePoolSize(fetchConcurrency);
+    executor.setMaxPoolSize(fetchConcurrency);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+
+  /**
+   * Runs queued sync jobs. Kept separate from {@link #plaidSyncExecutor()} because a job fans its
+   * items out onto that pool and waits for them. Submissions beyond the queue are rejected.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor plaidJobExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("plaid-job-");
+    executor.setCorePoolSize(jobConcurrency);
+    executor.setMaxPoolSize(jobConcurrency);
+    executor.setQueueCapacity(jobQueueCapacity);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+
   private String getPlaidAdapter(String env) {
     if (env == null) {
       return ApiClient.Sandbox;
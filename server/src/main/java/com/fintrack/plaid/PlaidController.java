@@ -2,6 +2,7 @@ package com.fintrack.plaid;
 
 import com.fintrack.common.ApiResponse;
 import com.fintrack.security.AuthUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -12,9 +13,11 @@ import java.util.Map;
 @RequestMapping("/api/plaid")
 public class PlaidController {
   private final PlaidService plaidService;
+  private final SyncJobService syncJobService;
 
-  public PlaidController(PlaidService plaidService) {
+  public PlaidController(PlaidService plaidService, SyncJobService syncJobService) {
     this.plaidService = plaidService;
+    this.syncJobService = syncJobService;
   }
 
   @PostMapping("/create_link_token")
@@ -49,20 +52,26 @@ public class PlaidController {
     }
   }
 
+  /**
+   * Queues a background sync and returns its job id right away. Poll {@code /sync_jobs/{jobId}}
+   * for progress and the per-item outcome.
+   */
   @PostMapping("/sync_transactions")
-  public ResponseEntity<ApiResponse<Map<String, Object>>> syncTransactions(Authentication authentication) {
-    try {
-      String userId = AuthUtils.requireUserId(authentication);
-      PlaidService.SyncResult result = plaidService.syncTransactions(userId);
-      return ResponseEntity.ok(ApiResponse.success(Map.of(
-          "added", result.added(),
-          "modified", result.modified(),
-          "removed", result.removed(),
-          "message", "Sync completed successfully"
-      )));
-    } catch (Exception e) {
-      return ResponseEntity.badRequest().body(ApiResponse.failure("Failed to sync transactions", e.getMessage()));
-    }
+  public ResponseEntity<ApiResponse<SyncJob.SyncJobStatus>> syncTransactions(Authentication authentication) {
+    String userId = AuthUtils.requireUserId(authentication);
+    SyncJobService.Submission submission = syncJobService.submitForUser(userId);
+    return ResponseEntity.accepted().body(ApiResponse.success(submission.job().snapshot()));
+  }
+
+  @GetMapping("/sync_jobs/{jobId}")
+  public ResponseEntity<ApiResponse<SyncJob.SyncJobStatus>> getSyncJob(@PathVariable String jobId,
+                                                                       Authentication authentication) {
+    String userId = AuthUtils.requireUserId(authentication);
+    // Polling clients get 404 once a job has aged out, as for ids that never existed
+    return syncJobService.getForUser(jobId, userId)
+        .map(job -> ResponseEntity.ok(ApiResponse.success(job.snapshot())))
+        .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(ApiResponse.failure("Sync job not found", null)));
   }
 
   public static class ExchangeTokenRequest {
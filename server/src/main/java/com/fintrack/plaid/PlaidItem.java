@@ -23,6 +23,7 @@ public class PlaidItem {
   private String institutionId;
   private String institutionName;
   private String cursor;
+  private String paginationStartCursor;
   private Instant lastSynced;
   private boolean requiresReauth;
   private String errorCode;
@@ -56,6 +57,8 @@ public class PlaidItem {
   public void setInstitutionName(String institutionName) { this.institutionName = institutionName; }
   public String getCursor() { return cursor; }
   public void setCursor(String cursor) { this.cursor = cursor; }
+  public String getPaginationStartCursor() { return paginationStartCursor; }
+  public void setPaginationStartCursor(String paginationStartCursor) { this.paginationStartCursor = paginationStartCursor; }
   public Instant getLastSynced() { return lastSynced; }
   public void setLastSynced(Instant lastSynced) { this.lastSynced = lastSynced; }
   public boolean isRequiresReauth() { return requiresReauth; }
@@ -1,11 +1,63 @@
 package com.fintrack.plaid;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 public interface PlaidItemRepository extends JpaRepository<PlaidItem, Long> {
   List<PlaidItem> findByUserId(String userId);
   Optional<PlaidItem> findByItemId(String itemId);
+
+  /**
+   * Records the cursor a sync update begins from, unless an earlier, interrupted sync already began
+   * the update. {@code ''} stands for an update that began without a cursor.
+   */
+  @Modifying
+  @Query("""
+      update PlaidItem i
+      set i.paginationStartCursor = :cursor, i.updatedAt = :now
+      where i.id = :id and i.paginationStartCursor is null
+      """)
+  int startPagination(@Param("id") Long id, @Param("cursor") String cursor, @Param("now") Instant now);
+
+  /**
+   * Checkpoints the cursor after a committed sync page without loading the item.
+   */
+  @Modifying
+  @Query("update PlaidItem i set i.cursor = :cursor, i.updatedAt = :now where i.id = :id")
+  int updateCursor(@Param("id") Long id, @Param("cursor") String cursor, @Param("now") Instant now);
+
+  /**
+   * Stores the final cursor of a sync, ends its update and marks the item as successfully synced.
+   */
+  @Modifying
+  @Query("""
+      update PlaidItem i
+      set i.cursor = :cursor, i.paginationStartCursor = null, i.lastSynced = :now,
+          i.errorCode = null, i.errorMessage = null, i.updatedAt = :now
+      where i.id = :id
+      """)
+  int completeSync(@Param("id") Long id, @Param("cursor") String cursor, @Param("now") Instant now);
+
+  /**
+   * Active items not synced since {@code staleBefore}, oldest first. Items needing re-auth are
+   * skipped, and items whose last sync failed are only retried once {@code retryErrorsBefore} passes.
+   */
+  @Query("""
+      select i from PlaidItem i
+      where i.isActive = true
+        and i.requiresReauth = false
+        and (i.lastSynced is null or i.lastSynced < :staleBefore)
+        and (i.errorCode is null or i.updatedAt < :retryErrorsBefore)
+      order by i.lastSynced asc nulls first
+      """)
+  List<PlaidItem> findStale(@Param("staleBefore") Instant staleBefore,
+                            @Param("retryErrorsBefore") Instant retryErrorsBefore,
+                            Pageable pageable);
 }
@@ -1,39 +1,128 @@
 package com.fintrack.plaid;
 
 import com.fintrack.accounts.Account;
+import com.fintrack.accounts.AccountBulkWriter;
 import com.fintrack.accounts.AccountRepository;
 import com.fintrack.transactions.Transaction;
-import com.fintrack.transactions.TransactionRepository;
+import com.fintrack.transactions.TransactionBulkWriter;
 import com.plaid.client.model.*;
 import com.plaid.client.request.PlaidApi;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import retrofit2.Response;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Links Plaid items and syncs their accounts and transactions.
+ *
+ * <p>Metrics: {@code plaid.sync.phase} timer (tag: phase = accounts_fetch, page_fetch, page_persist,
+ * cursor_commit), {@code plaid.sync.rows} summary of rows per item sync (tag: change = added,
+ * modified, removed) and {@code plaid.sync.page.retries} counter of page transactions re-run after
+ * a deadlock.
+ */
 @Service
 public class PlaidService {
+  private static final Logger log = LoggerFactory.getLogger(PlaidService.class);
+
+  private static final String MUTATION_DURING_PAGINATION = "TRANSACTIONS_SYNC_MUTATION_DURING_PAGINATION";
+  private static final int MAX_PAGINATION_RESTARTS = 3;
+  private static final int MAX_PAGE_ATTEMPTS = 3;
+
   private final PlaidApi plaidApi;
+  private final PlaidClient plaidClient;
   private final PlaidItemRepository plaidItemRepository;
   private final AccountRepository accountRepository;
-  private final TransactionRepository transactionRepository;
+  private final AccountBulkWriter accountBulkWriter;
+  private final TransactionBulkWriter transactionBulkWriter;
+  private final TransactionTemplate transactionTemplate;
+  private final Executor syncExecutor;
+  private final AsyncTaskExecutor fetchExecutor;
+  private final Map<Long, Lock> itemLocks = new ConcurrentHashMap<>();
+
+  private final Timer accountsFetchTimer;
+  private final Timer pageFetchTimer;
+  private final Timer pagePersistTimer;
+  private final Timer cursorCommitTimer;
+  private final DistributionSummary addedRows;
+  private final DistributionSummary modifiedRows;
+  private final DistributionSummary removedRows;
+  private final Counter pageRetries;
+
+  @Value("${app.plaid.webhook.url:}")
+  private String webhookUrl;
+
+  @Value("${app.plaid.sync.prefetch-pages:2}")
+  private int prefetchPages;
 
   public PlaidService(PlaidApi plaidApi,
+                      PlaidClient plaidClient,
                       PlaidItemRepository plaidItemRepository,
                       AccountRepository accountRepository,
-                      TransactionRepository transactionRepository) {
+                      AccountBulkWriter accountBulkWriter,
+                      TransactionBulkWriter transactionBulkWriter,
+                      PlatformTransactionManager transactionManager,
+                      @Qualifier("plaidSyncExecutor") Executor syncExecutor,
+                      @Qualifier("plaidFetchExecutor") AsyncTaskExecutor fetchExecutor,
+                      MeterRegistry meterRegistry) {
     this.plaidApi = plaidApi;
+    this.plaidClient = plaidClient;
     this.plaidItemRepository = plaidItemRepository;
     this.accountRepository = accountRepository;
-    this.transactionRepository = transactionRepository;
+    this.accountBulkWriter = accountBulkWriter;
+    this.transactionBulkWriter = transactionBulkWriter;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.syncExecutor = syncExecutor;
+    this.fetchExecutor = fetchExecutor;
+    this.accountsFetchTimer = phaseTimer(meterRegistry, "accounts_fetch");
+    this.pageFetchTimer = phaseTimer(meterRegistry, "page_fetch");
+    this.pagePersistTimer = phaseTimer(meterRegistry, "page_persist");
+    this.cursorCommitTimer = phaseTimer(meterRegistry, "cursor_commit");
+    this.addedRows = rowsSummary(meterRegistry, "added");
+    this.modifiedRows = rowsSummary(meterRegistry, "modified");
+    this.removedRows = rowsSummary(meterRegistry, "removed");
+    this.pageRetries = Counter.builder("plaid.sync.page.retries").register(meterRegistry);
+  }
+
+  private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+    return Timer.builder("plaid.sync.phase")
+        .tag("phase", phase)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
   }
 
-  public String createLinkToken(String userId) throws IOException {
+  private static DistributionSummary rowsSummary(MeterRegistry meterRegistry, String change) {
+    return DistributionSummary.builder("plaid.sync.rows")
+        .tag("change", change)
+        .baseUnit("rows")
+        .register(meterRegistry);
+  }
+
+  public String createLinkToken(String userId) {
     LinkTokenCreateRequestUser user = new LinkTokenCreateRequestUser().clientUserId(userId);
 
     // Plaid requires transactions.days_requested within [1, 730]
@@ -46,23 +135,17 @@ public class PlaidService {
         .countryCodes(Arrays.asList(CountryCode.US))
         .language("en")
         .transactions(tokenTransactions);
-
-    Response<LinkTokenCreateResponse> response = plaidApi.linkTokenCreate(request).execute();
-    if (!response.isSuccessful()) {
-      throw new RuntimeException("Failed to create link token: " + response.errorBody().string());
+    if (webhookUrl != null && !webhookUrl.isBlank()) {
+      request.webhook(webhookUrl);
     }
-    return response.body().getLinkToken();
+
+    return plaidClient.execute("linkTokenCreate", plaidApi.linkTokenCreate(request)).getLinkToken();
   }
 
-  public PlaidItem exchangePublicToken(String userId, String publicToken, String institutionId, String institutionName) throws IOException {
+  public PlaidItem exchangePublicToken(String userId, String publicToken, String institutionId, String institutionName) {
     ItemPublicTokenExchangeRequest request = new ItemPublicTokenExchangeRequest().publicToken(publicToken);
-    Response<ItemPublicTokenExchangeResponse> response = plaidApi.itemPublicTokenExchange(request).execute();
-
-    if (!response.isSuccessful()) {
-      throw new RuntimeException("Failed to exchange public token: " + response.errorBody().string());
-    }
-
-    ItemPublicTokenExchangeResponse body = response.body();
+    ItemPublicTokenExchangeResponse body =
+        plaidClient.execute("itemPublicTokenExchange", plaidApi.itemPublicTokenExchange(request));
 
     PlaidItem item = new PlaidItem();
     item.setUserId(userId);
@@ -73,86 +156,261 @@ public class PlaidService {
     return plaidItemRepository.save(item);
   }
 
-  @Transactional
-  public SyncResult syncTransactions(String userId) throws IOException {
+  /**
+   * Syncs all of the user's items concurrently on the bounded sync executor. Every item commits in
+   * its own transaction, so one failing institution is reported in the result without rolling back
+   * the others.
+   */
+  public SyncResult syncTransactions(String userId) {
+    return syncTransactions(userId, SyncProgressListener.NONE);
+  }
+
+  public SyncResult syncTransactions(String userId, SyncProgressListener listener) {
     List<PlaidItem> items = plaidItemRepository.findByUserId(userId);
-    int added = 0;
-    int modified = 0;
-    int removed = 0;
 
-    for (PlaidItem item : items) {
-      SyncResult result = syncItemTransactions(item, userId);
-      added += result.added;
-      modified += result.modified;
-      removed += result.removed;
+    List<CompletableFuture<ItemSyncResult>> futures = items.stream()
+        .map(item -> CompletableFuture.supplyAsync(() -> syncItem(item, listener), syncExecutor))
+        .toList();
+
+    List<ItemSyncResult> results = futures.stream()
+        .map(CompletableFuture::join)
+        .toList();
+    return SyncResult.of(results);
+  }
+
+  /**
+   * Syncs one item and records the outcome on the item. Each page is committed in its own
+   * transaction together with its next_cursor, so an interrupted sync resumes from the last committed
+   * page and the persistence context never grows with the history size. The cursor the update began
+   * from is kept until the update completes, for mutation-during-pagination restarts. Syncs of the same item (user
+   * request, scheduler, webhook) are serialized, and the item is re-read once the lock is held so
+   * every sync continues from the latest stored cursor.
+   */
+  public ItemSyncResult syncItem(PlaidItem item, SyncProgressListener listener) {
+    Lock lock = itemLocks.computeIfAbsent(item.getId(), id -> new ReentrantLock());
+    lock.lock();
+    try {
+      PlaidItem current = plaidItemRepository.findById(item.getId())
+          .orElseThrow(() -> new IllegalArgumentException("Plaid item not found"));
+      SyncCounts counts = syncItemTransactions(current, current.getUserId(), listener);
+      return ItemSyncResult.success(item, counts);
+    } catch (RuntimeException e) {
+      log.warn("Sync failed for item {} ({})", item.getItemId(), item.getInstitutionName(), e);
+      recordFailure(item, e);
+      return ItemSyncResult.failure(item, e.getMessage());
+    } finally {
+      lock.unlock();
     }
+  }
 
-    return new SyncResult(added, modified, removed);
+  private void recordFailure(PlaidItem item, RuntimeException failure) {
+    PlaidApiException plaidError = failure instanceof PlaidApiException e ? e : null;
+    try {
+      transactionTemplate.executeWithoutResult(status ->
+          plaidItemRepository.findById(item.getId()).ifPresent(current -> {
+            current.setErrorCode(plaidError != null && plaidError.getErrorCode() != null
+                ? plaidError.getErrorCode()
+                : "SYNC_FAILED");
+            current.setErrorMessage(failure.getMessage());
+            if (plaidError != null && plaidError.requiresReauth()) {
+              current.setRequiresReauth(true);
+            }
+            plaidItemRepository.save(current);
+          }));
+    } catch (RuntimeException e) {
+      log.warn("Could not record sync failure for item {}", item.getItemId(), e);
+    }
   }
 
-  private SyncResult syncItemTransactions(PlaidItem item, String userId) throws IOException {
+  private SyncCounts syncItemTransactions(PlaidItem item, String userId, SyncProgressListener listener) {
     int added = 0, modified = 0, removed = 0;
-    String cursor = item.getCursor();
-    boolean hasMore = true;
-
-    // First sync accounts
-    syncAccounts(item, userId);
 
-    while (hasMore) {
-      TransactionsSyncRequest request = new TransactionsSyncRequest()
-          .accessToken(item.getAccessToken());
-      if (cursor != null) {
-        request.cursor(cursor);
+    // First sync accounts; their dimensions are reused for every transaction of the item
+    List<AccountBase> plaidAccounts = fetchAccounts(item);
+    AccountLookup accounts = transactionTemplate.execute(status -> saveAccounts(plaidAccounts, item, userId));
+    String paginationStart = startPagination(item);
+
+    // A restart re-delivers pages this sync already committed: their rows are written again
+    // (idempotently) but only counted the first time
+    Set<String> addedIds = new HashSet<>();
+    Set<String> modifiedIds = new HashSet<>();
+    Set<String> removedIds = new HashSet<>();
+
+    // The next page is fetched while the current one is written; pages arrive in cursor order
+    try (PagePipeline<TransactionsSyncResponse> pages = new PagePipeline<>(
+             fetchExecutor, prefetchPages, sink -> fetchPages(item, paginationStart, sink))) {
+      TransactionsSyncResponse body;
+      while ((body = pages.take()) != null) {
+        TransactionsSyncResponse page = body;
+        boolean lastPage = !page.getHasMore();
+
+        // The page and the cursor that follows it commit together; cursor_commit covers the cursor
+        // update and the commit itself
+        long[] cursorStart = new long[1];
+        long persistStart = System.nanoTime();
+        List<String> pageRemovedIds = inPageTransaction(item, () -> {
+          List<String> written = writePage(page, item, userId, accounts);
+          cursorStart[0] = System.nanoTime();
+          pagePersistTimer.record(Duration.ofNanos(cursorStart[0] - persistStart));
+          Instant now = Instant.now();
+          if (lastPage) {
+            plaidItemRepository.completeSync(item.getId(), page.getNextCursor(), now);
+          } else {
+            plaidItemRepository.updateCursor(item.getId(), page.getNextCursor(), now);
+          }
+          return written;
+        });
+        cursorCommitTimer.record(Duration.ofNanos(System.nanoTime() - cursorStart[0]));
+        int pageAdded = countNew(addedIds, transactionIds(page.getAdded()));
+        int pageModified = countNew(modifiedIds, transactionIds(page.getModified()));
+        int pageRemoved = countNew(removedIds, pageRemovedIds);
+        added += pageAdded;
+        modified += pageModified;
+        removed += pageRemoved;
+
+        listener.onPage(item, pageAdded, pageModified, pageRemoved);
       }
+    }
+
+    addedRows.record(added);
+    modifiedRows.record(modified);
+    removedRows.record(removed);
+    return new SyncCounts(added, modified, removed);
+  }
 
-      Response<TransactionsSyncResponse> response = plaidApi.transactionsSync(request).execute();
-      if (!response.isSuccessful()) {
-        throw new RuntimeException("Failed to sync transactions: " + response.errorBody().string());
+  /**
+   * Runs one page transaction, re-running it if Postgres aborts it as a deadlock victim. Pages of a
+   * user's concurrently syncing items update shared daily rollup rows from several statements each;
+   * every statement locks its rollup rows in key order, but two transactions can still cross between
+   * statements. The page's upserts and cursor update are idempotent, so writing it again is safe.
+   */
+  private <T> T inPageTransaction(PlaidItem item, Supplier<T> page) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactionTemplate.execute(status -> page.get());
+      } catch (PessimisticLockingFailureException e) {
+        if (attempt >= MAX_PAGE_ATTEMPTS) {
+          throw e;
+        }
+        pageRetries.increment();
+        log.debug("Retrying sync page for item {} after a lock conflict: {}", item.getItemId(), e.getMessage());
       }
+    }
+  }
 
-      TransactionsSyncResponse body = response.body();
+  /**
+   * Returns the cursor the item's current update began from, recording the stored cursor as that
+   * start unless an earlier, interrupted sync already began the update. Page commits advance the
+   * stored cursor past it; completeSync ends the update.
+   */
+  private String startPagination(PlaidItem item) {
+    if (item.getPaginationStartCursor() != null) {
+      return item.getPaginationStartCursor();
+    }
+    String start = item.getCursor() != null ? item.getCursor() : "";
+    transactionTemplate.executeWithoutResult(status ->
+        plaidItemRepository.startPagination(item.getId(), start, Instant.now()));
+    return start;
+  }
 
-      // Process added transactions
-      for (com.plaid.client.model.Transaction plaidTxn : body.getAdded()) {
-        saveTransaction(plaidTxn, item, userId);
-        added++;
+  private static List<String> transactionIds(List<com.plaid.client.model.Transaction> transactions) {
+    List<String> ids = new ArrayList<>(transactions.size());
+    for (com.plaid.client.model.Transaction transaction : transactions) {
+      ids.add(transaction.getTransactionId());
+    }
+    return ids;
+  }
+
+  // Adds ids to seen and returns how many were not in it yet
+  private static int countNew(Set<String> seen, List<String> ids) {
+    int count = 0;
+    for (String id : ids) {
+      if (seen.add(id)) {
+        count++;
       }
+    }
+    return count;
+  }
 
-      // Process modified transactions
-      for (com.plaid.client.model.Transaction plaidTxn : body.getModified()) {
-        saveTransaction(plaidTxn, item, userId);
-        modified++;
+  /**
+   * Requests transactions/sync pages from the item's stored cursor until has_more is false. Runs on
+   * the fetch executor, ahead of the writer.
+   */
+  private void fetchPages(PlaidItem item, String paginationStart, PagePipeline.Sink<TransactionsSyncResponse> sink)
+      throws InterruptedException {
+    // Resumes after the last committed page, which may belong to an earlier, interrupted sync
+    String cursor = item.getCursor();
+    int restarts = 0;
+    boolean hasMore = true;
+
+    while (hasMore) {
+      TransactionsSyncRequest request = new TransactionsSyncRequest()
+          .accessToken(item.getAccessToken());
+      if (cursor != null && !cursor.isEmpty()) {
+        request.cursor(cursor);
       }
 
-      // Process removed transactions
-      for (RemovedTransaction removedTxn : body.getRemoved()) {
-        transactionRepository.deleteByPlaidId(removedTxn.getTransactionId());
-        removed++;
+      TransactionsSyncResponse body;
+      try {
+        body = pageFetchTimer.record(
+            () -> plaidClient.execute("transactionsSync", plaidApi.transactionsSync(request)));
+      } catch (PlaidApiException e) {
+        if (!MUTATION_DURING_PAGINATION.equals(e.getErrorCode()) || restarts >= MAX_PAGINATION_RESTARTS) {
+          throw e;
+        }
+        // Plaid requires restarting from the cursor the update began with, not the last committed
+        // one; re-delivered pages are re-applied idempotently by the upsert.
+        restarts++;
+        cursor = paginationStart;
+        continue;
       }
+      sink.put(body);
 
       cursor = body.getNextCursor();
       hasMore = body.getHasMore();
     }
-
-    item.setCursor(cursor);
-    item.setLastSynced(Instant.now());
-    plaidItemRepository.save(item);
-
-    return new SyncResult(added, modified, removed);
   }
 
-  private void syncAccounts(PlaidItem item, String userId) throws IOException {
-    AccountsGetRequest request = new AccountsGetRequest().accessToken(item.getAccessToken());
-    Response<AccountsGetResponse> response = plaidApi.accountsGet(request).execute();
+  /**
+   * Writes one sync page and returns the Plaid ids of its removed transactions.
+   */
+  private List<String> writePage(TransactionsSyncResponse body, PlaidItem item, String userId, AccountLookup accounts) {
+    // Added and modified transactions go out as one upsert batch per page
+    List<Transaction> upserts = new ArrayList<>(body.getAdded().size() + body.getModified().size());
+    for (com.plaid.client.model.Transaction plaidTxn : body.getAdded()) {
+      upserts.add(PlaidTransactionMapper.toTransaction(
+          plaidTxn, item, userId, accounts.get(plaidTxn.getAccountId())));
+    }
+    for (com.plaid.client.model.Transaction plaidTxn : body.getModified()) {
+      upserts.add(PlaidTransactionMapper.toTransaction(
+          plaidTxn, item, userId, accounts.get(plaidTxn.getAccountId())));
+    }
+    transactionBulkWriter.upsertAll(upserts);
 
-    if (!response.isSuccessful()) {
-      throw new RuntimeException("Failed to get accounts: " + response.errorBody().string());
+    // Removed transactions are deleted in a single statement
+    List<String> removedIds = new ArrayList<>(body.getRemoved().size());
+    for (RemovedTransaction removedTxn : body.getRemoved()) {
+      removedIds.add(removedTxn.getTransactionId());
     }
+    transactionBulkWriter.deleteByPlaidIds(userId, removedIds);
+    return removedIds;
+  }
 
-    for (AccountBase plaidAccount : response.body().getAccounts()) {
-      Account account = accountRepository.findByAccountId(plaidAccount.getAccountId())
-          .orElse(new Account());
+  private List<AccountBase> fetchAccounts(PlaidItem item) {
+    AccountsGetRequest request = new AccountsGetRequest().accessToken(item.getAccessToken());
+    return accountsFetchTimer.record(
+        () -> plaidClient.execute("accountsGet", plaidApi.accountsGet(request)).getAccounts());
+  }
 
+  /**
+   * Upserts the item's accounts in one batch and returns the lookup used to tag its transactions.
+   */
+  private AccountLookup saveAccounts(List<AccountBase> plaidAccounts, PlaidItem item, String userId) {
+    Instant now = Instant.now();
+    List<Account> accounts = new ArrayList<>(plaidAccounts.size());
+    Set<String> accountIds = new HashSet<>();
+    for (AccountBase plaidAccount : plaidAccounts) {
+      Account account = new Account();
       account.setUserId(userId);
       account.setAccountId(plaidAccount.getAccountId());
       account.setName(plaidAccount.getName());
@@ -163,48 +421,14 @@ public class PlaidService {
       account.setBalance(plaidAccount.getBalances().getCurrent() != null ? plaidAccount.getBalances().getCurrent() : 0);
       account.setAvailableBalance(plaidAccount.getBalances().getAvailable());
       account.setCreditLimit(plaidAccount.getBalances().getLimit());
-      account.setBalanceLastUpdated(Instant.now());
+      account.setBalanceLastUpdated(now);
       account.setPlaidItemId(item.getId());
-
-      accountRepository.save(account);
-    }
-  }
-
-  private void saveTransaction(com.plaid.client.model.Transaction plaidTxn, PlaidItem item, String userId) {
-    Transaction txn = transactionRepository.findByPlaidId(plaidTxn.getTransactionId())
-        .orElse(new Transaction());
-
-    txn.setUserId(userId);
-    txn.setPlaidId(plaidTxn.getTransactionId());
-    txn.setName(plaidTxn.getName());
-    txn.setAmount(plaidTxn.getAmount());
-    txn.setNormalizedAmount(plaidTxn.getAmount() < 0 ? -plaidTxn.getAmount() : plaidTxn.getAmount());
-    txn.setDate(plaidTxn.getDate());
-    txn.setMerchantName(plaidTxn.getMerchantName());
-    txn.setPlaidItemId(item.getId());
-
-    // Set category from Plaid
-    if (plaidTxn.getCategory() != null && !plaidTxn.getCategory().isEmpty()) {
-      txn.setCategory(plaidTxn.getCategory().get(plaidTxn.getCategory().size() - 1));
-      txn.setCategorySource("plaid");
+      accounts.add(account);
+      accountIds.add(plaidAccount.getAccountId());
     }
 
-    // Determine transaction type based on amount
-    if (plaidTxn.getAmount() < 0) {
-      txn.setTransactionType("income");
-    } else {
-      txn.setTransactionType("expense");
-    }
-
-    // Find associated account
-    Account account = accountRepository.findByAccountId(plaidTxn.getAccountId()).orElse(null);
-    if (account != null) {
-      txn.setPlaidAccountId(account.getId());
-      txn.setAccountType(account.getAccountType());
-      txn.setAccountSubtype(account.getAccountSubtype());
-    }
-
-    transactionRepository.save(txn);
+    accountBulkWriter.upsertAll(accounts);
+    return AccountLookup.load(accountRepository, accountIds);
   }
 
   private String mapAccountType(AccountType type) {
@@ -217,5 +441,40 @@ public class PlaidService {
     };
   }
 
-  public record SyncResult(int added, int modified, int removed) {}
+  record SyncCounts(int added, int modified, int removed) {}
+
+  public record ItemSyncResult(String itemId,
+                               String institutionName,
+                               boolean success,
+                               int added,
+                               int modified,
+                               int removed,
+                               String error) {
+    static ItemSyncResult success(PlaidItem item, SyncCounts counts) {
+      return new ItemSyncResult(item.getItemId(), item.getInstitutionName(), true,
+          counts.added(), counts.modified(), counts.removed(), null);
+    }
+
+    static ItemSyncResult failure(PlaidItem item, String error) {
+      return new ItemSyncResult(item.getItemId(), item.getInstitutionName(), false, 0, 0, 0, error);
+    }
+  }
+
+  public record SyncResult(int added, int modified, int removed, List<ItemSyncResult> items) {
+    static SyncResult of(List<ItemSyncResult> items) {
+      int added = 0;
+      int modified = 0;
+      int removed = 0;
+      for (ItemSyncResult item : items) {
+        added += item.added();
+        modified += item.modified();
+        removed += item.removed();
+      }
+      return new SyncResult(added, modified, removed, items);
+    }
+
+    public boolean hasFailures() {
+      return items.stream().anyMatch(item -> !item.success());
+    }
+  }
 }
@@ -0,0 +1,88 @@
+package com.fintrack.plaid;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps linked items fresh without waiting for the client to ask. Every poll it picks up to
+ * {@code batch-size} active items whose last sync is older than {@code staleness} and queues an
+ * item sync for each at a random offset within {@code jitter}, so a large backlog is spread out
+ * instead of hitting Plaid and the database all at once. Failures are recorded on the item by
+ * {@link PlaidService#syncItem} and retried after {@code error-retry-after}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.plaid.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class PlaidSyncScheduler {
+  private static final Logger log = LoggerFactory.getLogger(PlaidSyncScheduler.class);
+
+  private final PlaidItemRepository plaidItemRepository;
+  private final SyncJobService syncJobService;
+  private final TaskScheduler taskScheduler;
+  private final Duration staleness;
+  private final Duration errorRetryAfter;
+  private final Duration jitter;
+  private final int batchSize;
+
+  // Items picked by a poll whose delayed submission has not fired yet
+  private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+  public PlaidSyncScheduler(PlaidItemRepository plaidItemRepository,
+                            SyncJobService syncJobService,
+                            TaskScheduler taskScheduler,
+                            @Value("${app.plaid.scheduler.staleness:PT6H}") Duration staleness,
+                            @Value("${app.plaid.scheduler.error-retry-after:PT1H}") Duration errorRetryAfter,
+                            @Value("${app.plaid.scheduler.jitter:PT5M}") Duration jitter,
+                            @Value("${app.plaid.scheduler.batch-size:200}") int batchSize) {
+    this.plaidItemRepository = plaidItemRepository;
+    this.syncJobService = syncJobService;
+    this.taskScheduler = taskScheduler;
+    this.staleness = staleness;
+    this.errorRetryAfter = errorRetryAfter;
+    this.jitter = jitter;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${app.plaid.scheduler.poll-interval:PT5M}",
+      initialDelayString = "${app.plaid.scheduler.initial-delay:PT1M}")
+  public void scheduleStaleItems() {
+    Instant now = Instant.now();
+    List<PlaidItem> stale = plaidItemRepository.findStale(
+        now.minus(staleness), now.minus(errorRetryAfter), PageRequest.of(0, batchSize));
+
+    int queued = 0;
+    for (PlaidItem item : stale) {
+      if (!pending.add(item.getId())) {
+        continue;
+      }
+      long delayMillis = jitter.toMillis() > 0 ? ThreadLocalRandom.current().nextLong(jitter.toMillis()) : 0;
+      taskScheduler.schedule(() -> submit(item), now.plusMillis(delayMillis));
+      queued++;
+    }
+    if (queued > 0) {
+      log.info("Scheduled background sync for {} stale Plaid items", queued);
+    }
+  }
+
+  private void submit(PlaidItem item) {
+    try {
+      syncJobService.submitForItem(item);
+    } catch (RuntimeException e) {
+      log.warn("Could not queue background sync for item {}", item.getItemId(), e);
+    } finally {
+      pending.remove(item.getId());
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.fintrack.plaid;
+
+import com.fintrack.accounts.AccountDimensions;
+import com.fintrack.transactions.Transaction;
+
+/**
+ * Maps a transaction returned by transactions/sync onto the stored {@link Transaction}, copying the
+ * dimensions of the account it belongs to.
+ */
+public final class PlaidTransactionMapper {
+  private PlaidTransactionMapper() {}
+
+  public static Transaction toTransaction(com.plaid.client.model.Transaction plaidTxn,
+                                          PlaidItem item,
+                                          String userId,
+                                          AccountDimensions account) {
+    Transaction txn = new Transaction();
+    txn.setUserId(userId);
+    txn.setPlaidId(plaidTxn.getTransactionId());
+    txn.setName(plaidTxn.getName());
+    txn.setAmount(plaidTxn.getAmount());
+    txn.setNormalizedAmount(plaidTxn.getAmount() < 0 ? -plaidTxn.getAmount() : plaidTxn.getAmount());
+    txn.setDate(plaidTxn.getDate());
+    txn.setMerchantName(plaidTxn.getMerchantName());
+    txn.setPlaidItemId(item.getId());
+
+    // Set category from Plaid
+    if (plaidTxn.getCategory() != null && !plaidTxn.getCategory().isEmpty()) {
+      txn.setCategory(plaidTxn.getCategory().get(plaidTxn.getCategory().size() - 1));
+      txn.setCategorySource("plaid");
+    }
+
+    // Determine transaction type based on amount
+    if (plaidTxn.getAmount() < 0) {
+      txn.setTransactionType("income");
+    } else {
+      txn.setTransactionType("expense");
+    }
+
+    // Copy the associated account's dimensions
+    if (account != null) {
+      txn.setPlaidAccountId(account.id());
+      txn.setAccountType(account.accountType());
+      txn.setAccountSubtype(account.accountSubtype());
+    }
+
+    return txn;
+  }
+}
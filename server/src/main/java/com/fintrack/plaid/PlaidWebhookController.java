@@ -0,0 +1,49 @@
+package com.fintrack.plaid;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintrack.common.ApiResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Public endpoint Plaid calls when new transaction data is available. Requests are authenticated by
+ * the signed {@code Plaid-Verification} header rather than a user token.
+ */
+@RestController
+@RequestMapping("/api/plaid")
+public class PlaidWebhookController {
+  private final PlaidWebhookVerifier verifier;
+  private final PlaidWebhookService webhookService;
+  private final ObjectMapper objectMapper;
+
+  public PlaidWebhookController(PlaidWebhookVerifier verifier,
+                                PlaidWebhookService webhookService,
+                                ObjectMapper objectMapper) {
+    this.verifier = verifier;
+    this.webhookService = webhookService;
+    this.objectMapper = objectMapper;
+  }
+
+  @PostMapping("/webhook")
+  public ResponseEntity<ApiResponse<Map<String, Object>>> receive(
+      @RequestBody String body,
+      @RequestHeader(name = "Plaid-Verification", required = false) String verification) throws IOException {
+    verifier.verify(body, verification);
+
+    JsonNode payload = objectMapper.readTree(body);
+    boolean queued = webhookService.handle(
+        payload.path("webhook_type").asText(null),
+        payload.path("webhook_code").asText(null),
+        payload.path("item_id").asText(null)
+    );
+    return ResponseEntity.ok(ApiResponse.success(Map.of("queued", queued)));
+  }
+}
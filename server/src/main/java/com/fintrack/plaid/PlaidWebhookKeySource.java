@@ -0,0 +1,128 @@
+package com.fintrack.plaid;
+
+import com.fintrack.common.UnauthorizedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.util.Base64URL;
+import com.plaid.client.model.JWKPublicKey;
+import com.plaid.client.model.WebhookVerificationKeyGetRequest;
+import com.plaid.client.model.WebhookVerificationKeyGetResponse;
+import com.plaid.client.request.PlaidApi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Fetches webhook verification keys from Plaid and caches them by key id. The key id comes from an
+ * unauthenticated request, so lookups are guarded: known keys are cached for {@code key-ttl} (then
+ * re-fetched, so rotated or expired keys drop out), key ids Plaid doesn't know (or knows as expired)
+ * are remembered for {@code unknown-key-ttl}, and at most {@code max-lookups-per-minute} uncached
+ * key ids are looked up. Every failure surfaces as {@link UnauthorizedException}.
+ */
+@Component
+public class PlaidWebhookKeySource implements WebhookKeySource {
+  private static final Logger log = LoggerFactory.getLogger(PlaidWebhookKeySource.class);
+  private static final long MINUTE_NANOS = Duration.ofMinutes(1).toNanos();
+
+  private final PlaidApi plaidApi;
+  private final PlaidClient plaidClient;
+  private final Cache<String, Lookup> keys;
+  private final int maxLookupsPerMinute;
+
+  // Fixed one-minute window of uncached lookups; guarded by this
+  private long windowStart = System.nanoTime();
+  private int windowLookups;
+
+  // key is null for key ids Plaid doesn't know or reports as expired
+  private record Lookup(ECKey key) {}
+
+  public PlaidWebhookKeySource(PlaidApi plaidApi,
+                               PlaidClient plaidClient,
+                               @Value("${app.plaid.webhook.keys.max-size:100}") long maxSize,
+                               @Value("${app.plaid.webhook.keys.key-ttl:PT24H}") Duration keyTtl,
+                               @Value("${app.plaid.webhook.keys.unknown-key-ttl:PT5M}") Duration unknownKeyTtl,
+                               @Value("${app.plaid.webhook.keys.max-lookups-per-minute:10}") int maxLookupsPerMinute) {
+    this.plaidApi = plaidApi;
+    this.plaidClient = plaidClient;
+    this.maxLookupsPerMinute = maxLookupsPerMinute;
+    this.keys = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(new Expiry<String, Lookup>() {
+          @Override
+          public long expireAfterCreate(String keyId, Lookup lookup, long currentTime) {
+            return (lookup.key() != null ? keyTtl : unknownKeyTtl).toNanos();
+          }
+
+          @Override
+          public long expireAfterUpdate(String keyId, Lookup lookup, long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+
+          @Override
+          public long expireAfterRead(String keyId, Lookup lookup, long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .build();
+  }
+
+  @Override
+  public ECKey getKey(String keyId) {
+    Lookup lookup = keys.getIfPresent(keyId);
+    if (lookup == null) {
+      if (!tryStartLookup()) {
+        throw new UnauthorizedException("Unknown webhook verification key");
+      }
+      lookup = keys.get(keyId, this::fetch);
+    }
+    if (lookup.key() == null) {
+      throw new UnauthorizedException("Unknown webhook verification key");
+    }
+    return lookup.key();
+  }
+
+  private synchronized boolean tryStartLookup() {
+    long now = System.nanoTime();
+    if (now - windowStart >= MINUTE_NANOS) {
+      windowStart = now;
+      windowLookups = 0;
+    }
+    return ++windowLookups <= maxLookupsPerMinute;
+  }
+
+  private Lookup fetch(String keyId) {
+    WebhookVerificationKeyGetResponse response;
+    try {
+      WebhookVerificationKeyGetRequest request = new WebhookVerificationKeyGetRequest().keyId(keyId);
+      response = plaidClient.execute("webhookVerificationKeyGet", plaidApi.webhookVerificationKeyGet(request));
+    } catch (PlaidApiException e) {
+      if (!e.isRetryable() && !PlaidApiException.CIRCUIT_OPEN.equals(e.getErrorType())) {
+        // Plaid answered: it doesn't know the key id
+        return new Lookup(null);
+      }
+      throw unavailable(keyId, e);
+    } catch (RuntimeException e) {
+      throw unavailable(keyId, e);
+    }
+
+    JWKPublicKey key = response.getKey();
+    if (key == null || key.getExpiredAt() != null) {
+      return new Lookup(null);
+    }
+    return new Lookup(new ECKey.Builder(Curve.P_256, new Base64URL(key.getX()), new Base64URL(key.getY()))
+        .keyID(key.getKid())
+        .build());
+  }
+
+  // Plaid or the network is failing, not the key id, so the outcome isn't remembered
+  private static UnauthorizedException unavailable(String keyId, RuntimeException failure) {
+    log.warn("Could not fetch webhook verification key {}: {}", keyId, failure.getMessage());
+    return new UnauthorizedException("Webhook verification key is unavailable");
+  }
+}
@@ -0,0 +1,83 @@
+package com.fintrack.plaid;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns Plaid transaction webhooks into incremental syncs. Webhooks for the same item that arrive
+ * within {@code coalesce-window} of each other collapse into a single queued item sync. If a sync of
+ * that item is already running when the window closes, another one is queued afterwards so changes
+ * announced mid-sync are not missed.
+ */
+@Service
+public class PlaidWebhookService {
+  private static final Logger log = LoggerFactory.getLogger(PlaidWebhookService.class);
+
+  static final Set<String> SYNC_CODES = Set.of("SYNC_UPDATES_AVAILABLE", "DEFAULT_UPDATE");
+
+  private final PlaidItemRepository plaidItemRepository;
+  private final SyncJobService syncJobService;
+  private final TaskScheduler taskScheduler;
+  private final Duration coalesceWindow;
+
+  // Item id -> item waiting for its coalesce window to close
+  private final Map<Long, PlaidItem> pending = new ConcurrentHashMap<>();
+
+  public PlaidWebhookService(PlaidItemRepository plaidItemRepository,
+                             SyncJobService syncJobService,
+                             TaskScheduler taskScheduler,
+                             @Value("${app.plaid.webhook.coalesce-window:PT10S}") Duration coalesceWindow) {
+    this.plaidItemRepository = plaidItemRepository;
+    this.syncJobService = syncJobService;
+    this.taskScheduler = taskScheduler;
+    this.coalesceWindow = coalesceWindow;
+  }
+
+  /**
+   * Handles one webhook. Returns true when it resulted in (or joined) a pending sync.
+   */
+  public boolean handle(String webhookType, String webhookCode, String itemId) {
+    if (!"TRANSACTIONS".equals(webhookType) || !SYNC_CODES.contains(webhookCode)) {
+      log.debug("Ignoring Plaid webhook {}/{}", webhookType, webhookCode);
+      return false;
+    }
+
+    PlaidItem item = plaidItemRepository.findByItemId(itemId).orElse(null);
+    if (item == null || !item.isActive() || item.isRequiresReauth()) {
+      log.debug("Ignoring Plaid webhook {} for unknown or inactive item {}", webhookCode, itemId);
+      return false;
+    }
+
+    if (pending.putIfAbsent(item.getId(), item) == null) {
+      taskScheduler.schedule(() -> flush(item.getId()), Instant.now().plus(coalesceWindow));
+    }
+    return true;
+  }
+
+  private void flush(Long id) {
+    PlaidItem item = pending.remove(id);
+    if (item == null) {
+      return;
+    }
+    try {
+      SyncJobService.Submission submission = syncJobService.submitForItem(item);
+      if (submission.deduplicated() && submission.job().snapshot().status() == SyncJob.Status.RUNNING) {
+        // The running sync may already be past the data this webhook announced
+        if (pending.putIfAbsent(id, item) == null) {
+          taskScheduler.schedule(() -> flush(id), Instant.now().plus(coalesceWindow));
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("Could not queue webhook sync for item {}", item.getItemId(), e);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.fintrack.plaid;
+
+import com.fintrack.common.UnauthorizedException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
+
+/**
+ * Checks the {@code Plaid-Verification} header: an ES256 JWT signed by Plaid that carries the
+ * SHA-256 of the request body and must be less than {@code max-age} old.
+ */
+@Component
+public class PlaidWebhookVerifier {
+  private final WebhookKeySource keySource;
+  private final boolean enabled;
+  private final Duration maxAge;
+
+  public PlaidWebhookVerifier(WebhookKeySource keySource,
+                              @Value("${app.plaid.webhook.verify:true}") boolean enabled,
+                              @Value("${app.plaid.webhook.max-age:PT5M}") Duration maxAge) {
+    this.keySource = keySource;
+    this.enabled = enabled;
+    this.maxAge = maxAge;
+  }
+
+  public void verify(String body, String verificationHeader) {
+    if (!enabled) {
+      return;
+    }
+    if (verificationHeader == null || verificationHeader.isBlank()) {
+      throw new UnauthorizedException("Missing webhook verification header");
+    }
+
+    try {
+      SignedJWT jwt = SignedJWT.parse(verificationHeader);
+      if (!JWSAlgorithm.ES256.equals(jwt.getHeader().getAlgorithm())) {
+        throw new UnauthorizedException("Unexpected webhook signing algorithm");
+      }
+      String keyId = jwt.getHeader().getKeyID();
+      if (keyId == null || keyId.isBlank()) {
+        throw new UnauthorizedException("Webhook verification token has no key id");
+      }
+      if (!jwt.verify(new ECDSAVerifier(keySource.getKey(keyId)))) {
+        throw new UnauthorizedException("Invalid webhook signature");
+      }
+
+      JWTClaimsSet claims = jwt.getJWTClaimsSet();
+      Date issuedAt = claims.getIssueTime();
+      if (issuedAt == null || issuedAt.toInstant().isBefore(Instant.now().minus(maxAge))) {
+        throw new UnauthorizedException("Webhook verification token is too old");
+      }
+
+      String expected = claims.getStringClaim("request_body_sha256");
+      String actual = sha256Hex(body);
+      if (expected == null || !MessageDigest.isEqual(
+          expected.getBytes(StandardCharsets.UTF_8), actual.getBytes(StandardCharsets.UTF_8))) {
+        throw new UnauthorizedException("Webhook body does not match its signature");
+      }
+    } catch (ParseException | JOSEException e) {
+      throw new UnauthorizedException("Invalid webhook verification token");
+    }
+  }
+
+  static String sha256Hex(String body) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
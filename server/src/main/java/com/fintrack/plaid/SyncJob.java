@@ -0,0 +1,101 @@
+package com.fintrack.plaid;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory state of a background sync. Progress counters are updated from sync worker threads
+ * while the status endpoint reads them, so all mutable state is atomic or guarded by the instance.
+ */
+public class SyncJob implements SyncProgressListener {
+  public enum Status { QUEUED, RUNNING, SUCCEEDED, PARTIALLY_FAILED, FAILED }
+
+  private final String id = UUID.randomUUID().toString();
+  private final String userId;
+  private final String itemId;
+  private final Instant createdAt = Instant.now();
+  private final AtomicInteger pagesFetched = new AtomicInteger();
+  private final AtomicInteger added = new AtomicInteger();
+  private final AtomicInteger modified = new AtomicInteger();
+  private final AtomicInteger removed = new AtomicInteger();
+
+  private Status status = Status.QUEUED;
+  private Instant startedAt;
+  private Instant finishedAt;
+  private List<PlaidService.ItemSyncResult> items = List.of();
+  private String error;
+
+  public SyncJob(String userId) {
+    this(userId, null);
+  }
+
+  /**
+   * @param itemId Plaid item id when the job covers a single item, null for all of the user's items
+   */
+  public SyncJob(String userId, String itemId) {
+    this.userId = userId;
+    this.itemId = itemId;
+  }
+
+  public String getId() { return id; }
+  public String getUserId() { return userId; }
+  public String getItemId() { return itemId; }
+
+  @Override
+  public void onPage(PlaidItem item, int added, int modified, int removed) {
+    pagesFetched.incrementAndGet();
+    this.added.addAndGet(added);
+    this.modified.addAndGet(modified);
+    this.removed.addAndGet(removed);
+  }
+
+  synchronized void markRunning() {
+    status = Status.RUNNING;
+    startedAt = Instant.now();
+  }
+
+  synchronized void markFinished(PlaidService.SyncResult result) {
+    items = result.items();
+    boolean anySucceeded = items.stream().anyMatch(PlaidService.ItemSyncResult::success);
+    if (!result.hasFailures()) {
+      status = Status.SUCCEEDED;
+    } else {
+      status = anySucceeded ? Status.PARTIALLY_FAILED : Status.FAILED;
+    }
+    finishedAt = Instant.now();
+  }
+
+  synchronized void markFailed(String error) {
+    status = Status.FAILED;
+    this.error = error;
+    finishedAt = Instant.now();
+  }
+
+  synchronized boolean isFinished() {
+    return finishedAt != null;
+  }
+
+  synchronized Instant getFinishedAt() {
+    return finishedAt;
+  }
+
+  public synchronized SyncJobStatus snapshot() {
+    return new SyncJobStatus(id, itemId, status, pagesFetched.get(), added.get(), modified.get(), removed.get(),
+        createdAt, startedAt, finishedAt, items, error);
+  }
+
+  public record SyncJobStatus(String jobId,
+                              String itemId,
+                              Status status,
+                              int pagesFetched,
+                              int added,
+                              int modified,
+                              int removed,
+                              Instant createdAt,
+                              Instant startedAt,
+                              Instant finishedAt,
+                              List<PlaidService.ItemSyncResult> items,
+                              String error) {}
+}
@@ -0,0 +1,112 @@
+package com.fintrack.plaid;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs Plaid syncs as background jobs so the HTTP request returns immediately. At most one job per
+ * user (and one per item for item-scoped jobs) is in flight; submitting again while one is queued or
+ * running returns the existing job. Overlapping user and item jobs are serialized per item by
+ * {@link PlaidService#syncItem}. Finished jobs are kept in memory for
+ * {@code app.plaid.sync.job-retention} so clients can poll the outcome.
+ */
+@Service
+public class SyncJobService {
+  private static final Logger log = LoggerFactory.getLogger(SyncJobService.class);
+
+  private final PlaidService plaidService;
+  private final TaskExecutor jobExecutor;
+  private final Duration retention;
+
+  private final Map<String, SyncJob> jobs = new ConcurrentHashMap<>();
+  // Guarded by "this": dedupe key -> job that is queued or running
+  private final Map<String, SyncJob> inFlight = new HashMap<>();
+
+  public SyncJobService(PlaidService plaidService,
+                        @Qualifier("plaidJobExecutor") TaskExecutor jobExecutor,
+                        @Value("${app.plaid.sync.job-retention:PT1H}") Duration retention) {
+    this.plaidService = plaidService;
+    this.jobExecutor = jobExecutor;
+    this.retention = retention;
+  }
+
+  public Submission submitForUser(String userId) {
+    SyncJob job = new SyncJob(userId);
+    return submit("user:" + userId, job,
+        () -> job.markFinished(plaidService.syncTransactions(userId, job)));
+  }
+
+  /**
+   * Queues a sync of a single item, used by background refresh paths.
+   */
+  public Submission submitForItem(PlaidItem item) {
+    SyncJob job = new SyncJob(item.getUserId(), item.getItemId());
+    return submit("item:" + item.getId(), job,
+        () -> job.markFinished(PlaidService.SyncResult.of(List.of(plaidService.syncItem(item, job)))));
+  }
+
+  private synchronized Submission submit(String key, SyncJob job, Runnable work) {
+    pruneFinished();
+
+    SyncJob existing = inFlight.get(key);
+    if (existing != null) {
+      return new Submission(existing, true);
+    }
+
+    jobs.put(job.getId(), job);
+    inFlight.put(key, job);
+    try {
+      jobExecutor.execute(() -> run(job, key, work));
+    } catch (RejectedExecutionException e) {
+      job.markFailed("Sync queue is full, try again later");
+      inFlight.remove(key);
+    }
+    return new Submission(job, false);
+  }
+
+  /**
+   * The user's job with this id; empty if it never existed, has been pruned, or belongs to another
+   * user.
+   */
+  public Optional<SyncJob> getForUser(String jobId, String userId) {
+    SyncJob job = jobs.get(jobId);
+    if (job == null || !job.getUserId().equals(userId)) {
+      return Optional.empty();
+    }
+    return Optional.of(job);
+  }
+
+  private void run(SyncJob job, String key, Runnable work) {
+    try {
+      job.markRunning();
+      work.run();
+    } catch (RuntimeException e) {
+      log.warn("Sync job {} failed for user {}", job.getId(), job.getUserId(), e);
+      job.markFailed(e.getMessage());
+    } finally {
+      synchronized (this) {
+        inFlight.remove(key, job);
+      }
+    }
+  }
+
+  private void pruneFinished() {
+    Instant cutoff = Instant.now().minus(retention);
+    jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+  }
+
+  public record Submission(SyncJob job, boolean deduplicated) {}
+}
@@ -0,0 +1,11 @@
+package com.fintrack.plaid;
+
+/**
+ * Receives per-page progress from {@link PlaidService} while an item is being synced.
+ * Called from sync worker threads, so implementations must be thread-safe.
+ */
+public interface SyncProgressListener {
+  SyncProgressListener NONE = (item, added, modified, removed) -> {};
+
+  void onPage(PlaidItem item, int added, int modified, int removed);
+}
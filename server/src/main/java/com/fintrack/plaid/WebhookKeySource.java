@@ -0,0 +1,10 @@
+package com.fintrack.plaid;
+
+import com.nimbusds.jose.jwk.ECKey;
+
+/**
+ * Resolves the public key Plaid used to sign a webhook, by the JWT's key id.
+ */
+public interface WebhookKeySource {
+  ECKey getKey(String keyId);
+}
@@ -0,0 +1,105 @@
+package com.fintrack.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Remembers successfully decoded tokens so a client sending the same bearer token on every request
+ * pays for signature and claim validation once. Entries are keyed by the token's SHA-256 and expire
+ * {@code expirySkew} before the token does; failures are never cached.
+ *
+ * <p>Metrics: {@code cache.gets} etc. for cache {@code jwt} (hit rate) and the
+ * {@code security.jwt.verify} timer around each uncached decode (tag: outcome).
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+  private final JwtDecoder delegate;
+  private final Cache<String, Jwt> decoded;
+  private final Duration expirySkew;
+  private final Timer verified;
+  private final Timer rejected;
+
+  public CachingJwtDecoder(JwtDecoder delegate, MeterRegistry meterRegistry, long maxSize, Duration expirySkew) {
+    this.delegate = delegate;
+    this.expirySkew = expirySkew;
+    this.decoded = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(new Expiry<String, Jwt>() {
+          @Override
+          public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            return remaining(jwt).toNanos();
+          }
+
+          @Override
+          public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+
+          @Override
+          public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, decoded, "jwt");
+    this.verified = Timer.builder("security.jwt.verify").tag("outcome", "success").register(meterRegistry);
+    this.rejected = Timer.builder("security.jwt.verify").tag("outcome", "failure").register(meterRegistry);
+  }
+
+  @Override
+  public Jwt decode(String token) throws JwtException {
+    String key = hash(token);
+    Jwt cached = decoded.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    long start = System.nanoTime();
+    Jwt jwt;
+    try {
+      jwt = delegate.decode(token);
+    } catch (JwtException e) {
+      rejected.record(Duration.ofNanos(System.nanoTime() - start));
+      throw e;
+    }
+    verified.record(Duration.ofNanos(System.nanoTime() - start));
+
+    // Tokens without an expiry, or about to expire, are verified every time
+    if (remaining(jwt).isPositive()) {
+      decoded.put(key, jwt);
+    }
+    return jwt;
+  }
+
+  private Duration remaining(Jwt jwt) {
+    Instant expiresAt = jwt.getExpiresAt();
+    if (expiresAt == null) {
+      return Duration.ZERO;
+    }
+    Duration remaining = Duration.between(Instant.now(), expiresAt.minus(expirySkew));
+    return remaining.isNegative() ? Duration.ZERO : remaining;
+  }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.fintrack.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The issuer's signing keys, fetched ahead of time and refreshed in the background so token
+ * verification never waits on the identity provider. A token signed with a key that isn't in the
+ * cached set (key rotation) triggers one synchronous refresh, at most every {@code min-refresh}.
+ */
+@Component
+public class JwkSetCache implements JWKSource<SecurityContext> {
+  private static final Logger log = LoggerFactory.getLogger(JwkSetCache.class);
+
+  private final String issuerUri;
+  private final Duration minRefresh;
+  private final RestClient restClient;
+
+  private final AtomicReference<JWKSet> keys = new AtomicReference<>();
+  private volatile String jwksUri;
+  private volatile Instant lastRefresh = Instant.EPOCH;
+
+  public JwkSetCache(@Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri,
+                     @Value("${app.security.jwks.min-refresh:PT30S}") Duration minRefresh) {
+    this.issuerUri = issuerUri.endsWith("/") ? issuerUri : issuerUri + "/";
+    this.minRefresh = minRefresh;
+    SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+    requestFactory.setConnectTimeout(Duration.ofSeconds(5));
+    requestFactory.setReadTimeout(Duration.ofSeconds(10));
+    this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+  }
+
+  /**
+   * Runs right after startup (prefetch) and then every {@code refresh-interval}. Failures keep the
+   * previous keys.
+   */
+  @Scheduled(initialDelay = 0, fixedDelayString = "${app.security.jwks.refresh-interval:PT15M}")
+  public void scheduledRefresh() {
+    try {
+      refresh();
+    } catch (RuntimeException e) {
+      log.warn("Could not refresh signing keys from {}: {}", issuerUri, e.getMessage());
+    }
+  }
+
+  public synchronized void refresh() {
+    // Failed attempts count too, so an unreachable issuer isn't hammered on every request
+    lastRefresh = Instant.now();
+    if (jwksUri == null) {
+      Map<?, ?> configuration = restClient.get()
+          .uri(issuerUri + ".well-known/openid-configuration")
+          .retrieve()
+          .body(Map.class);
+      Object uri = configuration != null ? configuration.get("jwks_uri") : null;
+      if (!(uri instanceof String value)) {
+        throw new IllegalStateException("Issuer " + issuerUri + " publishes no jwks_uri");
+      }
+      jwksUri = value;
+    }
+    String body = restClient.get().uri(jwksUri).retrieve().body(String.class);
+    try {
+      keys.set(JWKSet.parse(body));
+    } catch (ParseException e) {
+      throw new IllegalStateException("Invalid JWK set from " + jwksUri, e);
+    }
+  }
+
+  @Override
+  public List<JWK> get(JWKSelector selector, SecurityContext context) throws KeySourceException {
+    JWKSet current = keys.get();
+    List<JWK> matches = current != null ? selector.select(current) : List.of();
+    if (!matches.isEmpty()) {
+      return matches;
+    }
+    synchronized (this) {
+      // Another thread may have refreshed while this one waited
+      if (keys.get() != current) {
+        return selector.select(keys.get());
+      }
+      if (Instant.now().isBefore(lastRefresh.plus(minRefresh))) {
+        if (current == null) {
+          throw new KeySourceException("No signing keys available from " + issuerUri);
+        }
+        return List.of();
+      }
+      try {
+        refresh();
+      } catch (RuntimeException e) {
+        throw new KeySourceException("Could not fetch signing keys from " + issuerUri, e);
+      }
+      return selector.select(keys.get());
+    }
+  }
+}
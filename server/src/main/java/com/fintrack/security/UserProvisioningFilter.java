@@ -1,11 +1,16 @@
 package com.fintrack.security;
 
-import com.fintrack.users.User;
 import com.fintrack.users.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -13,14 +18,36 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Optional;
+import java.time.Duration;
+import java.util.Objects;
 
+/**
+ * Makes sure every authenticated subject has a users row, filling in profile fields from the token.
+ * Subjects provisioned recently with the same profile claims are remembered, so most requests skip
+ * the database entirely.
+ *
+ * <p>Metrics: {@code users.provisioning.writes} counter of upserts sent to the database, and the
+ * standard cache meters for cache {@code user_provisioning}.
+ */
 @Component
 public class UserProvisioningFilter extends OncePerRequestFilter {
   private final UserRepository userRepository;
+  // Subject -> hash of the profile claims last written for it
+  private final Cache<String, Integer> provisioned;
+  private final Counter writes;
 
-  public UserProvisioningFilter(UserRepository userRepository) {
+  public UserProvisioningFilter(UserRepository userRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.users.provisioning-cache.max-size:10000}") long maxSize,
+                                @Value("${app.users.provisioning-cache.ttl:PT1H}") Duration ttl) {
     this.userRepository = userRepository;
+    this.provisioned = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, provisioned, "user_provisioning");
+    this.writes = Counter.builder("users.provisioning.writes").register(meterRegistry);
   }
 
   @Override
@@ -32,48 +59,38 @@ public class UserProvisioningFilter extends OncePerRequestFilter {
     if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
       String userId = jwt.getSubject();
       if (userId != null && !userId.isBlank()) {
-        Optional<User> existing = userRepository.findByAuth0Id(userId);
-        if (existing.isEmpty()) {
-          User user = new User();
-          user.setAuth0Id(userId);
-          user.setUsername(firstNonBlank(
-              jwt.getClaimAsString("preferred_username"),
-              jwt.getClaimAsString("nickname"),
-              jwt.getClaimAsString("name"),
-              userId
-          ));
-          user.setEmail(jwt.getClaimAsString("email"));
-          user.setAvatar(jwt.getClaimAsString("picture"));
-          user.setName(jwt.getClaimAsString("name"));
-          userRepository.save(user);
-        } else {
-          User user = existing.get();
-          boolean dirty = false;
-          String name = jwt.getClaimAsString("name");
-          String email = jwt.getClaimAsString("email");
-          String picture = jwt.getClaimAsString("picture");
-          if (isBlank(user.getName()) && !isBlank(name)) {
-            user.setName(name);
-            dirty = true;
-          }
-          if (isBlank(user.getEmail()) && !isBlank(email)) {
-            user.setEmail(email);
-            dirty = true;
-          }
-          if (isBlank(user.getAvatar()) && !isBlank(picture)) {
-            user.setAvatar(picture);
-            dirty = true;
-          }
-          if (dirty) {
-            userRepository.save(user);
-          }
-        }
+        provision(userId, jwt);
       }
     }
 
     filterChain.doFilter(request, response);
   }
 
+  private void provision(String userId, Jwt jwt) {
+    String username = firstNonBlank(
+        jwt.getClaimAsString("preferred_username"),
+        jwt.getClaimAsString("nickname"),
+        jwt.getClaimAsString("name"),
+        userId
+    );
+    String name = blankToNull(jwt.getClaimAsString("name"));
+    String email = blankToNull(jwt.getClaimAsString("email"));
+    String picture = blankToNull(jwt.getClaimAsString("picture"));
+
+    int claims = Objects.hash(username, name, email, picture);
+    Integer cached = provisioned.getIfPresent(userId);
+    if (cached != null && cached == claims) {
+      return;
+    }
+    userRepository.provision(userId, username, email, name, picture);
+    writes.increment();
+    provisioned.put(userId, claims);
+  }
+
+  private static String blankToNull(String value) {
+    return isBlank(value) ? null : value;
+  }
+
   private static String firstNonBlank(String... values) {
     for (String value : values) {
       if (value != null && !value.isBlank()) {
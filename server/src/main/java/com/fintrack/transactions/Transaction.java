@@ -1,16 +1,16 @@
 package com.fintrack.transactions;
 
-import jakarta.persistence.CollectionTable;
-import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.JoinColumn;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import jakarta.persistence.FetchType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -21,8 +21,11 @@ import java.util.UUID;
 @Entity
 @Table(name = "transactions")
 public class Transaction {
+  // Sequence ids (pooled, see V2 migration) keep Hibernate's JDBC insert batching enabled;
+  // IDENTITY would force one round trip per insert to read back the generated key.
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_id_seq")
+  @SequenceGenerator(name = "transactions_id_seq", sequenceName = "transactions_id_seq", allocationSize = 50)
   private Long id;
 
   private String userId;
@@ -46,8 +49,9 @@ public class Transaction {
   private Long plaidItemId;
   private Long plaidAccountId;
 
-  @ElementCollection(fetch = FetchType.EAGER)
-  @CollectionTable(name = "transaction_tags", joinColumns = @JoinColumn(name = "transaction_id"))
+  // Stored inline as text[] (V6) so tags load with the row instead of one extra select per row
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  @Column(columnDefinition = "text[]", nullable = false)
   private List<String> tags = new ArrayList<>();
 
   private Instant createdAt;
@@ -228,7 +232,7 @@ public class Transaction {
   }
 
   public void setTags(List<String> tags) {
-    this.tags = tags;
+    this.tags = tags != null ? tags : new ArrayList<>();
   }
 
   public Instant getCreatedAt() {
@@ -0,0 +1,115 @@
+package com.fintrack.transactions;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based writes used by Plaid sync. Rows are upserted on the unique plaid_id index in a single
+ * JDBC batch (rewritten into multi-row inserts by the driver) instead of a select + save per row.
+ */
+@Repository
+public class TransactionBulkWriter {
+  // Plaid only sends category/account fields when it knows them, so a modification never clears
+  // values we already have. Tags and user-owned flags are not part of the statement and are preserved.
+  private static final String UPSERT_SQL = """
+      insert into transactions (
+        user_id, plaid_id, name, amount, normalized_amount, date, category, category_source,
+        merchant_name, transaction_type, account_type, account_subtype, plaid_item_id, plaid_account_id,
+        created_at, updated_at
+      ) values (
+        :userId, :plaidId, :name, :amount, :normalizedAmount, :date, :category, :categorySource,
+        :merchantName, :transactionType, :accountType, :accountSubtype, :plaidItemId, :plaidAccountId,
+        now(), now()
+      )
+      on conflict (plaid_id) do update set
+        user_id = excluded.user_id,
+        name = excluded.name,
+        amount = excluded.amount,
+        normalized_amount = excluded.normalized_amount,
+        date = excluded.date,
+        category = coalesce(excluded.category, transactions.category),
+        category_source = coalesce(excluded.category_source, transactions.category_source),
+        merchant_name = excluded.merchant_name,
+        transaction_type = excluded.transaction_type,
+        account_type = case when excluded.plaid_account_id is null
+          then transactions.account_type else excluded.account_type end,
+        account_subtype = case when excluded.plaid_account_id is null
+          then transactions.account_subtype else excluded.account_subtype end,
+        plaid_item_id = excluded.plaid_item_id,
+        plaid_account_id = coalesce(excluded.plaid_account_id, transactions.plaid_account_id),
+        updated_at = excluded.updated_at
+      """;
+
+  private static final String DELETE_SQL = "delete from transactions where user_id = :userId and plaid_id in (:plaidIds)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final TransactionVersions versions;
+
+  public TransactionBulkWriter(NamedParameterJdbcTemplate jdbcTemplate, TransactionVersions versions) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.versions = versions;
+  }
+
+  /**
+   * Inserts or updates every transaction in one batch. Returns the number of distinct rows written.
+   */
+  public int upsertAll(Collection<Transaction> transactions) {
+    if (transactions.isEmpty()) {
+      return 0;
+    }
+
+    // A multi-row upsert cannot touch the same row twice, so collapse duplicates (last one wins).
+    Map<String, Transaction> byPlaidId = new LinkedHashMap<>();
+    for (Transaction transaction : transactions) {
+      byPlaidId.put(transaction.getPlaidId(), transaction);
+    }
+
+    SqlParameterSource[] batch = byPlaidId.values().stream()
+        .map(TransactionBulkWriter::toParameters)
+        .toArray(SqlParameterSource[]::new);
+    jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+    byPlaidId.values().stream().map(Transaction::getUserId).distinct().forEach(versions::invalidate);
+    return batch.length;
+  }
+
+  /**
+   * Deletes the user's given Plaid transactions (tags are stored inline) in one statement.
+   */
+  public int deleteByPlaidIds(String userId, Collection<String> plaidIds) {
+    if (plaidIds.isEmpty()) {
+      return 0;
+    }
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("userId", userId)
+        .addValue("plaidIds", List.copyOf(plaidIds));
+    int deleted = jdbcTemplate.update(DELETE_SQL, params);
+    versions.invalidate(userId);
+    return deleted;
+  }
+
+  private static SqlParameterSource toParameters(Transaction transaction) {
+    return new MapSqlParameterSource()
+        .addValue("userId", transaction.getUserId())
+        .addValue("plaidId", transaction.getPlaidId())
+        .addValue("name", transaction.getName())
+        .addValue("amount", transaction.getAmount())
+        .addValue("normalizedAmount", transaction.getNormalizedAmount())
+        .addValue("date", transaction.getDate() != null ? Date.valueOf(transaction.getDate()) : null)
+        .addValue("category", transaction.getCategory())
+        .addValue("categorySource", transaction.getCategorySource())
+        .addValue("merchantName", transaction.getMerchantName())
+        .addValue("transactionType", transaction.getTransactionType())
+        .addValue("accountType", transaction.getAccountType())
+        .addValue("accountSubtype", transaction.getAccountSubtype())
+        .addValue("plaidItemId", transaction.getPlaidItemId())
+        .addValue("plaidAccountId", transaction.getPlaidAccountId());
+  }
+}
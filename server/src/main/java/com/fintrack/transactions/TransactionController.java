@@ -6,8 +6,9 @@ import com.fintrack.security.AuthUtils;
 import com.fintrack.transactions.dto.TransactionDto;
 import com.fintrack.transactions.dto.TransactionRequests;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -29,13 +31,27 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/transactions")
 public class TransactionController {
   private final TransactionService transactionService;
+  private final TransactionExporter transactionExporter;
 
-  public TransactionController(TransactionService transactionService) {
+  public TransactionController(TransactionService transactionService, TransactionExporter transactionExporter) {
     this.transactionService = transactionService;
+    this.transactionExporter = transactionExporter;
   }
 
+  /**
+   * Lists transactions newest first; in page mode {@code search}/{@code merchantName} results are
+   * ranked by relevance instead, and {@code fuzzy=true} tolerates typos.
+   *
+   * <p>Without {@code cursor} it pages by {@code page}/{@code limit}; {@code total} chooses an exact
+   * count (default), a planner {@code estimate}, or {@code none}. Passing {@code cursor} (empty for
+   * the first page) switches to keyset pagination: follow {@code pagination.nextCursor} until it is
+   * null.
+   *
+   * <p>{@code fields} (e.g. {@code date,name,amount}) selects only those columns and returns only
+   * those fields; tags are read only when listed.
+   */
   @GetMapping
-  public ResponseEntity<ApiResponse<List<TransactionDto>>> getTransactions(
+  public ResponseEntity<ApiResponse<List<?>>> getTransactions(
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
       @RequestParam(required = false, name = "category") List<String> categories,
@@ -43,17 +59,21 @@ public class TransactionController {
       @RequestParam(required = false, name = "transactionType") List<String> transactionTypes,
       @RequestParam(required = false) String merchantName,
       @RequestParam(required = false) String search,
+      @RequestParam(required = false, defaultValue = "false") boolean fuzzy,
       @RequestParam(required = false) Double minAmount,
       @RequestParam(required = false) Double maxAmount,
       @RequestParam(required = false, defaultValue = "false") boolean excludeTransfers,
       @RequestParam(required = false, defaultValue = "false") boolean onlyRecurring,
       @RequestParam(required = false, defaultValue = "1") int page,
       @RequestParam(required = false, defaultValue = "50") int limit,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "exact") String total,
+      @RequestParam(required = false) String fields,
       Authentication authentication
   ) {
     String userId = AuthUtils.requireUserId(authentication);
-    Page<Transaction> results = transactionService.getTransactions(
-        userId,
+    TransactionFields projection = TransactionFields.parse(fields);
+    TransactionFilter filter = new TransactionFilter(
         startDate,
         endDate,
         categories,
@@ -65,17 +85,82 @@ public class TransactionController {
         maxAmount,
         excludeTransfers,
         onlyRecurring,
-        page,
-        limit
+        fuzzy
     );
 
-    List<TransactionDto> data = results.getContent().stream()
-        .map(TransactionDto::from)
-        .collect(Collectors.toList());
-    Pagination pagination = new Pagination(page, limit, results.getTotalElements(), results.hasNext());
+    if (cursor != null) {
+      TransactionService.CursorPage<?> results;
+      if (projection != null) {
+        results = transactionService.getTransactionsAfter(userId, filter, cursor, limit, projection);
+      } else {
+        results = toDtos(transactionService.getTransactionsAfter(userId, filter, cursor, limit));
+      }
+      List<?> data = results.content();
+      return ResponseEntity.ok(ApiResponse.success(data, Pagination.cursor(limit, results.nextCursor())));
+    }
+
+    TransactionService.TotalMode totalMode = TransactionService.TotalMode.from(total);
+    TransactionService.TransactionPage<?> results;
+    if (projection != null) {
+      results = transactionService.getTransactions(userId, filter, page, limit, totalMode, projection);
+    } else {
+      results = transactionService.getTransactions(userId, filter, page, limit, totalMode);
+    }
+    List<?> data = results.content();
+    Pagination pagination = new Pagination(page, limit, results.total(), results.hasNext());
+    pagination.setTotalEstimated(results.totalEstimated());
     return ResponseEntity.ok(ApiResponse.success(data, pagination));
   }
 
+  /**
+   * Streams every transaction matching the same filters as the list endpoint, newest first, as
+   * {@code csv} or {@code ndjson}; {@code gzip=true} compresses the download.
+   */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> export(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+      @RequestParam(required = false, name = "category") List<String> categories,
+      @RequestParam(required = false, name = "accountType") List<String> accountTypes,
+      @RequestParam(required = false, name = "transactionType") List<String> transactionTypes,
+      @RequestParam(required = false) String merchantName,
+      @RequestParam(required = false) String search,
+      @RequestParam(required = false, defaultValue = "false") boolean fuzzy,
+      @RequestParam(required = false) Double minAmount,
+      @RequestParam(required = false) Double maxAmount,
+      @RequestParam(required = false, defaultValue = "false") boolean excludeTransfers,
+      @RequestParam(required = false, defaultValue = "false") boolean onlyRecurring,
+      @RequestParam(required = false, defaultValue = "csv") String format,
+      @RequestParam(required = false, defaultValue = "false") boolean gzip,
+      Authentication authentication
+  ) {
+    String userId = AuthUtils.requireUserId(authentication);
+    TransactionExporter.Format exportFormat = TransactionExporter.Format.from(format);
+    TransactionFilter filter = new TransactionFilter(
+        startDate,
+        endDate,
+        categories,
+        accountTypes,
+        transactionTypes,
+        merchantName,
+        search,
+        minAmount,
+        maxAmount,
+        excludeTransfers,
+        onlyRecurring,
+        fuzzy
+    );
+
+    StreamingResponseBody body = out -> transactionExporter.export(userId, filter, exportFormat, gzip, out);
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_TYPE, TransactionExporter.contentType(exportFormat, gzip))
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename(TransactionExporter.filename(exportFormat, gzip))
+            .build()
+            .toString())
+        .body(body);
+  }
+
   @GetMapping("/by-plaid-id/{plaidId}")
   public ResponseEntity<ApiResponse<TransactionDto>> getByPlaidId(@PathVariable String plaidId,
                                                                   Authentication authentication) {
@@ -117,4 +202,11 @@ public class TransactionController {
     transactionService.deleteByPlaidId(plaidId);
     return ResponseEntity.noContent().build();
   }
+
+  private static TransactionService.CursorPage<TransactionDto> toDtos(TransactionService.CursorPage<Transaction> page) {
+    List<TransactionDto> content = page.content().stream()
+        .map(TransactionDto::from)
+        .collect(Collectors.toList());
+    return new TransactionService.CursorPage<>(content, page.nextCursor());
+  }
 }
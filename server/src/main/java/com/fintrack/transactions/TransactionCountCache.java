@@ -0,0 +1,45 @@
+package com.fintrack.transactions;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches exact transaction counts per user and filter. Every write to a user's transactions bumps
+ * that user's {@link TransactionVersions version}, which is part of the cache key, so older counts
+ * are never read again and simply age out. The TTL bounds staleness from writes made by other
+ * instances.
+ */
+@Component
+public class TransactionCountCache {
+  private final Cache<Key, Long> counts;
+  private final TransactionVersions versions;
+
+  public TransactionCountCache(TransactionVersions versions,
+                               @Value("${app.transactions.count-cache.max-size:10000}") long maxSize,
+                               @Value("${app.transactions.count-cache.ttl:PT10M}") Duration ttl) {
+    this.versions = versions;
+    this.counts = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  public long get(String userId, TransactionFilter filter, LongSupplier count) {
+    Key key = new Key(userId, versions.current(userId), filter);
+    return counts.get(key, k -> count.getAsLong());
+  }
+
+  /**
+   * Drops every cached count, so the next count of any filter goes to the database.
+   */
+  public void invalidateAll() {
+    counts.invalidateAll();
+  }
+
+  private record Key(String userId, long version, TransactionFilter filter) {}
+}
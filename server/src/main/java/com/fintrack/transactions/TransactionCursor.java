@@ -0,0 +1,33 @@
+package com.fintrack.transactions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the (date desc, id desc) transaction order: the last row of the previous page.
+ * Clients only see it as an opaque URL-safe string.
+ */
+record TransactionCursor(LocalDate date, long id) {
+  static TransactionCursor after(Transaction transaction) {
+    return new TransactionCursor(transaction.getDate(), transaction.getId());
+  }
+
+  String encode() {
+    String raw = date + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static TransactionCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf('|');
+      return new TransactionCursor(
+          LocalDate.parse(raw.substring(0, separator)),
+          Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+}
@@ -0,0 +1,305 @@
+package com.fintrack.transactions;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams a user's filtered transactions as CSV or NDJSON. Rows come off a server-side cursor
+ * ({@code fetch-size} rows at a time) and are written as they arrive, so memory use doesn't depend on
+ * the result size and the first bytes go out before the query has finished.
+ */
+@Component
+public class TransactionExporter {
+  private static final String[] COLUMNS = {
+      "id", "plaid_id", "date", "name", "merchant_name", "amount", "normalized_amount", "category",
+      "transaction_type", "account_type", "account_subtype", "is_recurring", "is_excluded_from_budget",
+      "description", "tags"
+  };
+  private static final String SELECT = "select " + String.join(", ", COLUMNS) + " from transactions where ";
+  // Push what has been written to the client at least this often, even when compressing
+  private static final int FLUSH_EVERY_ROWS = 1000;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+
+  public TransactionExporter(DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             @Value("${app.transactions.export.fetch-size:1000}") int fetchSize) {
+    // A dedicated template: the fetch size applies to every query it runs
+    JdbcTemplate cursorTemplate = new JdbcTemplate(dataSource);
+    cursorTemplate.setFetchSize(fetchSize);
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(cursorTemplate);
+    // The Postgres driver only uses a cursor (honors the fetch size) outside autocommit
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.objectMapper = objectMapper;
+  }
+
+  public enum Format {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    Format(String contentType, String extension) {
+      this.contentType = contentType;
+      this.extension = extension;
+    }
+
+    public String contentType() {
+      return contentType;
+    }
+
+    public String extension() {
+      return extension;
+    }
+
+    public static Format from(String value) {
+      for (Format format : values()) {
+        if (format.name().equalsIgnoreCase(value)) {
+          return format;
+        }
+      }
+      throw new IllegalArgumentException("format must be one of csv, ndjson");
+    }
+  }
+
+  /**
+   * Writes every transaction matching the filter, newest first, and returns how many were written.
+   * Does not close {@code out}.
+   */
+  public long export(String userId, TransactionFilter filter, Format format, boolean gzip, OutputStream out)
+      throws IOException {
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    String sql = SELECT + TransactionQueries.where(userId, filter, params) + " order by date desc, id desc";
+
+    // syncFlush so periodic flushes reach the client instead of waiting in the deflater
+    GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, 8192, true) : null;
+    Writer writer = new BufferedWriter(new OutputStreamWriter(
+        compressed != null ? compressed : out, StandardCharsets.UTF_8));
+    RowWriter rows = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+    long[] count = new long[1];
+    try {
+      rows.start();
+      transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(sql, params, rs -> {
+        try {
+          rows.write(rs);
+          if (++count[0] % FLUSH_EVERY_ROWS == 0) {
+            rows.flush();
+          }
+        } catch (IOException e) {
+          // Usually the client went away; abandons the query
+          throw new UncheckedIOException(e);
+        }
+      }));
+      rows.finish();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    writer.flush();
+    if (compressed != null) {
+      compressed.finish();
+    }
+    return count[0];
+  }
+
+  private interface RowWriter {
+    void start() throws IOException;
+
+    void write(ResultSet rs) throws SQLException, IOException;
+
+    /**
+     * Pushes everything written so far through to {@code out}.
+     */
+    void flush() throws IOException;
+
+    void finish() throws IOException;
+  }
+
+  private static final class CsvRowWriter implements RowWriter {
+    private final Writer writer;
+
+    CsvRowWriter(Writer writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void start() throws IOException {
+      writer.write(String.join(",", COLUMNS));
+      writer.write("\r\n");
+    }
+
+    @Override
+    public void write(ResultSet rs) throws SQLException, IOException {
+      for (int i = 0; i < COLUMNS.length; i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        String column = COLUMNS[i];
+        String value = switch (column) {
+          case "date" -> {
+            Date date = rs.getDate(column);
+            yield date != null ? date.toLocalDate().toString() : null;
+          }
+          case "amount", "normalized_amount" -> {
+            BigDecimal amount = amount(rs, column);
+            yield amount != null ? amount.toPlainString() : null;
+          }
+          case "is_recurring", "is_excluded_from_budget" -> String.valueOf(rs.getBoolean(column));
+          case "tags" -> {
+            String[] tags = tags(rs);
+            yield tags != null ? String.join(";", tags) : null;
+          }
+          default -> rs.getString(column);
+        };
+        writeField(value, isText(column));
+      }
+      writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+      writer.flush();
+    }
+
+    @Override
+    public void finish() {
+    }
+
+    private void writeField(String value, boolean text) throws IOException {
+      if (value == null) {
+        return;
+      }
+      // Spreadsheets evaluate text cells starting with these as formulas
+      if (text && !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+        value = "'" + value;
+      }
+      if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+      } else {
+        writer.write(value);
+      }
+    }
+
+    private static boolean isText(String column) {
+      return switch (column) {
+        case "name", "merchant_name", "category", "description", "tags" -> true;
+        default -> false;
+      };
+    }
+  }
+
+  private final class NdjsonRowWriter implements RowWriter {
+    private final Writer writer;
+    private JsonGenerator generator;
+
+    NdjsonRowWriter(Writer writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void start() throws IOException {
+      generator = objectMapper.getFactory().createGenerator(writer);
+      // One object per line: rows end in '\n' (written below) instead of Jackson's root value separator
+      generator.setRootValueSeparator(null);
+      // The caller owns the stream
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void write(ResultSet rs) throws SQLException, IOException {
+      generator.writeStartObject();
+      generator.writeNumberField("id", rs.getLong("id"));
+      generator.writeStringField("plaidId", rs.getString("plaid_id"));
+      Date date = rs.getDate("date");
+      generator.writeStringField("date", date != null ? date.toLocalDate().toString() : null);
+      generator.writeStringField("name", rs.getString("name"));
+      generator.writeStringField("merchantName", rs.getString("merchant_name"));
+      writeAmount("amount", amount(rs, "amount"));
+      writeAmount("normalizedAmount", amount(rs, "normalized_amount"));
+      generator.writeStringField("category", rs.getString("category"));
+      generator.writeStringField("transactionType", rs.getString("transaction_type"));
+      generator.writeStringField("accountType", rs.getString("account_type"));
+      generator.writeStringField("accountSubtype", rs.getString("account_subtype"));
+      generator.writeBooleanField("isRecurring", rs.getBoolean("is_recurring"));
+      generator.writeBooleanField("isExcludedFromBudget", rs.getBoolean("is_excluded_from_budget"));
+      generator.writeStringField("description", rs.getString("description"));
+      generator.writeArrayFieldStart("tags");
+      String[] tags = tags(rs);
+      if (tags != null) {
+        for (String tag : tags) {
+          generator.writeString(tag);
+        }
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+      // Buffered in the generator with the row; flushing is left to flush()
+      generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+      // Flushes the generator's buffer, then the writer chain behind it (FLUSH_PASSED_TO_STREAM)
+      generator.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+      generator.close();
+    }
+
+    private void writeAmount(String field, BigDecimal amount) throws IOException {
+      if (amount == null) {
+        generator.writeNullField(field);
+      } else {
+        generator.writeNumberField(field, amount);
+      }
+    }
+  }
+
+  // Both formats render amounts from the same value, as Postgres prints them
+  private static BigDecimal amount(ResultSet rs, String column) throws SQLException {
+    return rs.getBigDecimal(column);
+  }
+
+  private static String[] tags(ResultSet rs) throws SQLException {
+    Array tags = rs.getArray("tags");
+    return tags != null ? (String[]) tags.getArray() : null;
+  }
+
+  static String filename(Format format, boolean gzip) {
+    return "transactions." + format.extension() + (gzip ? ".gz" : "");
+  }
+
+  static String contentType(Format format, boolean gzip) {
+    return gzip ? "application/gzip" : format.contentType() + "; charset=utf-8";
+  }
+}
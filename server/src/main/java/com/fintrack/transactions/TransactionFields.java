@@ -0,0 +1,93 @@
+package com.fintrack.transactions;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A sparse fieldset for transaction reads ({@code fields=date,name,amount}). Only the requested
+ * columns are selected, and rows come back as maps holding just those fields, named as in
+ * {@link com.fintrack.transactions.dto.TransactionDto}. {@code id} and {@code date} are always
+ * selected since keyset cursors are built from them.
+ */
+public final class TransactionFields {
+  // TransactionDto field names; each is also the Transaction attribute it reads
+  private static final Set<String> ALLOWED = Set.of(
+      "id", "plaidId", "name", "amount", "normalizedAmount", "date", "category", "merchantName",
+      "transactionType", "accountType", "accountSubtype", "isRecurring", "isExcludedFromBudget",
+      "categoryCorrected", "categorySource", "confidence", "description", "tags", "plaidItemId",
+      "plaidAccountId", "createdAt", "updatedAt");
+
+  private final Set<String> requested;
+  private final List<String> selected;
+
+  private TransactionFields(Set<String> requested) {
+    this.requested = requested;
+    Set<String> selected = new LinkedHashSet<>(requested);
+    selected.add("id");
+    selected.add("date");
+    this.selected = List.copyOf(selected);
+  }
+
+  /**
+   * Parses a comma-separated field list; null when {@code fields} is blank (return whole rows).
+   */
+  public static TransactionFields parse(String fields) {
+    if (fields == null || fields.isBlank()) {
+      return null;
+    }
+    Set<String> requested = new LinkedHashSet<>();
+    for (String field : fields.split(",")) {
+      String name = field.trim();
+      if (name.isEmpty()) {
+        continue;
+      }
+      if (!ALLOWED.contains(name)) {
+        throw new IllegalArgumentException("Unknown transaction field: " + name);
+      }
+      requested.add(name);
+    }
+    if (requested.isEmpty()) {
+      return null;
+    }
+    return new TransactionFields(requested);
+  }
+
+  List<Selection<?>> selections(Root<Transaction> root) {
+    List<Selection<?>> selections = new ArrayList<>(selected.size());
+    for (String attribute : selected) {
+      selections.add(root.get(attribute).alias(attribute));
+    }
+    return selections;
+  }
+
+  /**
+   * The requested fields of {@code row}, as an unmodifiable map (pages of these are cached).
+   */
+  Map<String, Object> toMap(Tuple row) {
+    Map<String, Object> fields = new LinkedHashMap<>();
+    for (String field : requested) {
+      Object value = row.get(field);
+      fields.put(field, value instanceof List<?> list ? List.copyOf(list) : value);
+    }
+    return Collections.unmodifiableMap(fields);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof TransactionFields fields && requested.equals(fields.requested);
+  }
+
+  @Override
+  public int hashCode() {
+    return requested.hashCode();
+  }
+}
@@ -0,0 +1,105 @@
+package com.fintrack.transactions;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filters accepted by GET /api/transactions. Null or empty values mean "no filter".
+ *
+ * <p>{@code search} matches name, merchant name and description; {@code merchantName} only the
+ * merchant. Both are case-insensitive substring matches, or word-similarity matches that tolerate
+ * typos when {@code fuzzy} is set.
+ */
+public record TransactionFilter(LocalDate startDate,
+                                LocalDate endDate,
+                                List<String> categories,
+                                List<String> accountTypes,
+                                List<String> transactionTypes,
+                                String merchantName,
+                                String search,
+                                Double minAmount,
+                                Double maxAmount,
+                                boolean excludeTransfers,
+                                boolean onlyRecurring,
+                                boolean fuzzy) {
+  /**
+   * The same filter in canonical form (blank values dropped, lists sorted and deduplicated), so
+   * equivalent requests compare equal as cache keys.
+   */
+  public TransactionFilter normalized() {
+    return new TransactionFilter(
+        startDate,
+        endDate,
+        normalize(categories),
+        normalize(accountTypes),
+        normalize(transactionTypes),
+        normalize(merchantName),
+        normalize(search),
+        minAmount,
+        maxAmount,
+        excludeTransfers,
+        onlyRecurring,
+        fuzzy
+    );
+  }
+
+  /**
+   * Names of the filters in use, in declaration order. Used as metric tag values, so it names
+   * filters but never their values.
+   */
+  public List<String> activeFilters() {
+    List<String> active = new ArrayList<>();
+    addIf(active, "startDate", startDate != null);
+    addIf(active, "endDate", endDate != null);
+    addIf(active, "categories", categories != null && !categories.isEmpty());
+    addIf(active, "accountTypes", accountTypes != null && !accountTypes.isEmpty());
+    addIf(active, "transactionTypes", transactionTypes != null && !transactionTypes.isEmpty());
+    addIf(active, "merchantName", merchantName != null && !merchantName.isBlank());
+    addIf(active, "search", search != null && !search.isBlank());
+    addIf(active, "minAmount", minAmount != null);
+    addIf(active, "maxAmount", maxAmount != null);
+    addIf(active, "excludeTransfers", excludeTransfers);
+    addIf(active, "onlyRecurring", onlyRecurring);
+    addIf(active, "fuzzy", fuzzy);
+    return active;
+  }
+
+  /**
+   * The query shape, named after the most selective kind of filter in use, which decides the index
+   * the list query reads: {@code text} (search or merchant), {@code amount}, {@code dimension}
+   * (category, account or transaction type), {@code date} or {@code none}. A small fixed set, so it
+   * can tag latency metrics.
+   */
+  public String shape() {
+    if ((search != null && !search.isBlank()) || (merchantName != null && !merchantName.isBlank())) {
+      return "text";
+    }
+    if (minAmount != null || maxAmount != null) {
+      return "amount";
+    }
+    if ((categories != null && !categories.isEmpty())
+        || (accountTypes != null && !accountTypes.isEmpty())
+        || (transactionTypes != null && !transactionTypes.isEmpty())) {
+      return "dimension";
+    }
+    return startDate != null || endDate != null ? "date" : "none";
+  }
+
+  private static void addIf(List<String> active, String name, boolean inUse) {
+    if (inUse) {
+      active.add(name);
+    }
+  }
+
+  private static List<String> normalize(List<String> values) {
+    if (values == null || values.isEmpty()) {
+      return null;
+    }
+    return values.stream().distinct().sorted().toList();
+  }
+
+  private static String normalize(String value) {
+    return value == null || value.isBlank() ? null : value;
+  }
+}
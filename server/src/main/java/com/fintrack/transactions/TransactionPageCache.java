@@ -0,0 +1,71 @@
+package com.fintrack.transactions;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Caches offset pages of {@link TransactionService#getTransactions} per user, keyed by the
+ * normalized filter, page, limit, total mode and fieldset together with the user's
+ * {@link TransactionVersions version}, so any write to a user's transactions retires only that
+ * user's pages. Bounded by the total number of cached rows; the TTL bounds staleness from writes
+ * made by other instances. Every request thread gets the same cached instances, so pages hold
+ * immutable rows (TransactionDto records or unmodifiable field maps), never entities.
+ *
+ * <p>Metrics: the standard cache meters ({@code cache.gets} hit/miss, {@code cache.evictions}, ...)
+ * for cache {@code transaction_pages}.
+ */
+@Component
+public class TransactionPageCache {
+  private final Cache<Key, TransactionService.TransactionPage<?>> pages;
+  private final TransactionVersions versions;
+
+  public TransactionPageCache(TransactionVersions versions,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.transactions.page-cache.max-rows:200000}") long maxRows,
+                              @Value("${app.transactions.page-cache.ttl:PT5M}") Duration ttl) {
+    this.versions = versions;
+    this.pages = Caffeine.newBuilder()
+        // Weighed by rows so a few 500-row pages can't crowd out memory the way a count would
+        .maximumWeight(maxRows)
+        .weigher((Key key, TransactionService.TransactionPage<?> page) -> page.content().size() + 1)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, pages, "transaction_pages");
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> TransactionService.TransactionPage<T> get(String userId,
+                                                      TransactionFilter filter,
+                                                      int page,
+                                                      int limit,
+                                                      TransactionService.TotalMode totalMode,
+                                                      TransactionFields fields,
+                                                      Supplier<TransactionService.TransactionPage<T>> load) {
+    Key key = new Key(userId, versions.current(userId), filter, page, limit, totalMode, fields);
+    return (TransactionService.TransactionPage<T>) pages.get(key, k -> load.get());
+  }
+
+  /**
+   * Drops every cached page, so the next read of any page goes to the database.
+   */
+  public void invalidateAll() {
+    pages.invalidateAll();
+  }
+
+  // fields is null for whole rows, so entity and projected pages never share a key
+  private record Key(String userId,
+                     long version,
+                     TransactionFilter filter,
+                     int page,
+                     int limit,
+                     TransactionService.TotalMode totalMode,
+                     TransactionFields fields) {}
+}
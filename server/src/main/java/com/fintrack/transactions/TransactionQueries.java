@@ -0,0 +1,165 @@
+package com.fintrack.transactions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.util.List;
+
+/**
+ * Transaction list queries that Spring Data's {@code findAll(spec, pageable)} can't express without
+ * a count query: an offset slice (optionally of selected fields) and a planner row estimate.
+ */
+@Repository
+public class TransactionQueries {
+  private final EntityManager entityManager;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  public TransactionQueries(EntityManager entityManager,
+                            NamedParameterJdbcTemplate jdbcTemplate,
+                            ObjectMapper objectMapper) {
+    this.entityManager = entityManager;
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Returns the requested page, fetching one extra row to tell whether another page follows.
+   */
+  public Slice<Transaction> findSlice(Specification<Transaction> spec, Pageable pageable) {
+    CriteriaQuery<Transaction> query = entityManager.getCriteriaBuilder().createQuery(Transaction.class);
+    Root<Transaction> root = query.from(Transaction.class);
+    return slice(query, root, spec, pageable);
+  }
+
+  /**
+   * Like {@link #findSlice(Specification, Pageable)}, selecting only the given fields.
+   */
+  public Slice<Tuple> findSlice(Specification<Transaction> spec, Pageable pageable, TransactionFields fields) {
+    CriteriaQuery<Tuple> query = entityManager.getCriteriaBuilder().createTupleQuery();
+    Root<Transaction> root = query.from(Transaction.class);
+    query.multiselect(fields.selections(root));
+    return slice(query, root, spec, pageable);
+  }
+
+  private <T> Slice<T> slice(CriteriaQuery<T> query,
+                             Root<Transaction> root,
+                             Specification<Transaction> spec,
+                             Pageable pageable) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    Predicate predicate = spec.toPredicate(root, query, cb);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    // Like Spring Data, a paging sort replaces any order the specification applied
+    if (pageable.getSort().isSorted()) {
+      query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+    }
+
+    int pageSize = pageable.getPageSize();
+    List<T> rows = entityManager.createQuery(query)
+        .setFirstResult((int) pageable.getOffset())
+        .setMaxResults(pageSize + 1)
+        .getResultList();
+    boolean hasNext = rows.size() > pageSize;
+    return new SliceImpl<>(hasNext ? rows.subList(0, pageSize) : rows, pageable, hasNext);
+  }
+
+  /**
+   * Row count the Postgres planner expects for the filter, from table statistics. Costs one
+   * EXPLAIN instead of a scan, but can be off by a wide margin on selective filters.
+   */
+  public long estimateCount(String userId, TransactionFilter filter) {
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    String sql = "explain (format json) select 1 from transactions where " + where(userId, filter, params);
+    return readPlan(jdbcTemplate.queryForObject(sql, params, String.class))
+        .path(0).path("Plan").path("Plan Rows").asLong();
+  }
+
+  // The JDBC form of TransactionSpecifications.forFilter, for queries that bypass JPA (estimates,
+  // exports). The index-check bench run fails if the two select different rows for any filter shape.
+  static String where(String userId, TransactionFilter filter, MapSqlParameterSource params) {
+    StringBuilder sql = new StringBuilder("user_id = :userId");
+    params.addValue("userId", userId);
+
+    if (filter.startDate() != null) {
+      sql.append(" and date >= :startDate");
+      params.addValue("startDate", Date.valueOf(filter.startDate()));
+    }
+    if (filter.endDate() != null) {
+      sql.append(" and date <= :endDate");
+      params.addValue("endDate", Date.valueOf(filter.endDate()));
+    }
+    if (filter.categories() != null && !filter.categories().isEmpty()) {
+      sql.append(" and category in (:categories)");
+      params.addValue("categories", filter.categories());
+    }
+    if (filter.accountTypes() != null && !filter.accountTypes().isEmpty()) {
+      sql.append(" and account_type in (:accountTypes)");
+      params.addValue("accountTypes", filter.accountTypes());
+    }
+    if (filter.transactionTypes() != null && !filter.transactionTypes().isEmpty()) {
+      sql.append(" and transaction_type in (:transactionTypes)");
+      params.addValue("transactionTypes", filter.transactionTypes());
+    }
+    if (filter.merchantName() != null && !filter.merchantName().isBlank()) {
+      if (filter.fuzzy()) {
+        sql.append(" and :merchantName <% lower(merchant_name)");
+        params.addValue("merchantName", filter.merchantName().toLowerCase());
+      } else {
+        sql.append(" and lower(merchant_name) like :merchantName");
+        params.addValue("merchantName", "%" + filter.merchantName().toLowerCase() + "%");
+      }
+    }
+    if (filter.search() != null && !filter.search().isBlank()) {
+      String searchText = "transaction_search_text(name, merchant_name, description)";
+      if (filter.fuzzy()) {
+        sql.append(" and :search <% ").append(searchText);
+        params.addValue("search", filter.search().toLowerCase());
+      } else {
+        sql.append(" and ").append(searchText).append(" like :search");
+        params.addValue("search", "%" + filter.search().toLowerCase() + "%");
+      }
+    }
+    if (filter.minAmount() != null) {
+      sql.append(" and amount >= :minAmount");
+      params.addValue("minAmount", filter.minAmount());
+    }
+    if (filter.maxAmount() != null) {
+      sql.append(" and amount <= :maxAmount");
+      params.addValue("maxAmount", filter.maxAmount());
+    }
+    if (filter.excludeTransfers()) {
+      sql.append(" and transaction_type <> 'transfer'");
+    }
+    if (filter.onlyRecurring()) {
+      sql.append(" and is_recurring = true");
+    }
+    return sql.toString();
+  }
+
+  private JsonNode readPlan(String plan) {
+    try {
+      return objectMapper.readTree(plan);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read query plan", e);
+    }
+  }
+}
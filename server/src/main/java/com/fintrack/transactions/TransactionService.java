@@ -1,77 +1,209 @@
 package com.fintrack.transactions;
 
+import com.fintrack.transactions.dto.TransactionDto;
 import com.fintrack.transactions.dto.TransactionRequests;
-import org.springframework.data.domain.Page;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.Tuple;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
+/**
+ * Reads and writes a user's transactions.
+ *
+ * <p>Metrics: {@code transactions.query} timer around {@link #getTransactions} (tags: shape, the
+ * {@link TransactionFilter#shape() query shape}; total, the total mode; sparse, whether a fieldset was
+ * requested) and {@code transactions.query.filters} counter of each filter in use (tag: filter).
+ */
 @Service
 public class TransactionService {
   private final TransactionRepository transactionRepository;
+  private final TransactionQueries transactionQueries;
+  private final TransactionCountCache countCache;
+  private final TransactionPageCache pageCache;
+  private final TransactionVersions versions;
+  private final MeterRegistry meterRegistry;
 
-  public TransactionService(TransactionRepository transactionRepository) {
+  public TransactionService(TransactionRepository transactionRepository,
+                            TransactionQueries transactionQueries,
+                            TransactionCountCache countCache,
+                            TransactionPageCache pageCache,
+                            TransactionVersions versions,
+                            MeterRegistry meterRegistry) {
     this.transactionRepository = transactionRepository;
+    this.transactionQueries = transactionQueries;
+    this.countCache = countCache;
+    this.pageCache = pageCache;
+    this.versions = versions;
+    this.meterRegistry = meterRegistry;
   }
 
-  public Page<Transaction> getTransactions(String userId,
-                                            LocalDate startDate,
-                                            LocalDate endDate,
-                                            List<String> categories,
-                                            List<String> accountTypes,
-                                            List<String> transactionTypes,
-                                            String merchantName,
-                                            String search,
-                                            Double minAmount,
-                                            Double maxAmount,
-                                            boolean excludeTransfers,
-                                            boolean onlyRecurring,
-                                            int page,
-                                            int limit) {
-    Specification<Transaction> spec = Specification.where(TransactionSpecifications.userId(userId));
-
-    if (startDate != null && endDate != null) {
-      spec = spec.and(TransactionSpecifications.dateBetween(startDate, endDate));
-    } else if (startDate != null) {
-      spec = spec.and(TransactionSpecifications.dateAfter(startDate));
-    } else if (endDate != null) {
-      spec = spec.and(TransactionSpecifications.dateBefore(endDate));
-    }
+  // A few latency buckets instead of a full percentile histogram for every tag combination
+  private static final Duration[] QUERY_SLOS = {
+      Duration.ofMillis(25), Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofSeconds(1)};
 
-    if (categories != null && !categories.isEmpty()) {
-      spec = spec.and(TransactionSpecifications.categories(categories));
-    }
-    if (accountTypes != null && !accountTypes.isEmpty()) {
-      spec = spec.and(TransactionSpecifications.accountTypes(accountTypes));
-    }
-    if (transactionTypes != null && !transactionTypes.isEmpty()) {
-      spec = spec.and(TransactionSpecifications.transactionTypes(transactionTypes));
-    }
-    if (merchantName != null && !merchantName.isBlank()) {
-      spec = spec.and(TransactionSpecifications.merchantNameLike(merchantName));
-    }
-    if (search != null && !search.isBlank()) {
-      spec = spec.and(TransactionSpecifications.nameLike(search));
+  // Newest first; id breaks ties so the order is total and stable across pages
+  static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"));
+
+  /**
+   * Offset pagination. {@code totalMode} picks how {@link TransactionPage#total()} is filled:
+   * an exact (cached) count, a planner estimate, or nothing. The page itself never runs a count.
+   * Text searches are ranked by relevance, newest first among equals. Pages are served from
+   * {@link TransactionPageCache} until the user's transactions change, so rows come back as
+   * immutable DTOs rather than entities.
+   */
+  public TransactionPage<TransactionDto> getTransactions(String userId,
+                                                      TransactionFilter filter,
+                                                      int page,
+                                                      int limit,
+                                                      TotalMode totalMode) {
+    TransactionFilter normalized = filter.normalized();
+    int pageNumber = Math.max(page, 1);
+    int pageSize = clampLimit(limit);
+    return timed(normalized, totalMode, false, () ->
+        pageCache.get(userId, normalized, pageNumber, pageSize, totalMode, null,
+            () -> {
+              TransactionPage<Transaction> rows =
+                  getPage(userId, normalized, pageNumber, pageSize, totalMode, transactionQueries::findSlice);
+              return new TransactionPage<>(rows.content().stream().map(TransactionDto::from).toList(),
+                  rows.total(), rows.totalEstimated(), rows.hasNext());
+            }));
+  }
+
+  /**
+   * Offset pagination returning only the requested {@code fields} of each row.
+   */
+  public TransactionPage<Map<String, Object>> getTransactions(String userId,
+                                                              TransactionFilter filter,
+                                                              int page,
+                                                              int limit,
+                                                              TotalMode totalMode,
+                                                              TransactionFields fields) {
+    TransactionFilter normalized = filter.normalized();
+    int pageNumber = Math.max(page, 1);
+    int pageSize = clampLimit(limit);
+    return timed(normalized, totalMode, true, () ->
+        pageCache.get(userId, normalized, pageNumber, pageSize, totalMode, fields, () -> {
+          TransactionPage<Tuple> rows = getPage(userId, normalized, pageNumber, pageSize, totalMode,
+              (spec, pageable) -> transactionQueries.findSlice(spec, pageable, fields));
+          return new TransactionPage<>(rows.content().stream().map(fields::toMap).toList(),
+              rows.total(), rows.totalEstimated(), rows.hasNext());
+        }));
+  }
+
+  private <T> T timed(TransactionFilter filter, TotalMode totalMode, boolean sparse, Supplier<T> query) {
+    for (String name : filter.activeFilters()) {
+      Counter.builder("transactions.query.filters").tag("filter", name).register(meterRegistry).increment();
     }
-    if (minAmount != null) {
-      spec = spec.and(TransactionSpecifications.amountMin(minAmount));
+    return Timer.builder("transactions.query")
+        .tag("shape", filter.shape())
+        .tag("total", totalMode.name().toLowerCase(Locale.ROOT))
+        .tag("sparse", Boolean.toString(sparse))
+        .serviceLevelObjectives(QUERY_SLOS)
+        .register(meterRegistry)
+        .record(query);
+  }
+
+  private <T> TransactionPage<T> getPage(String userId,
+                                         TransactionFilter filter,
+                                         int page,
+                                         int limit,
+                                         TotalMode totalMode,
+                                         BiFunction<Specification<Transaction>, Pageable, Slice<T>> findSlice) {
+    Specification<Transaction> spec = TransactionSpecifications.forFilter(userId, filter);
+    Specification<Transaction> ranking = null;
+    if (hasText(filter.search())) {
+      ranking = TransactionSpecifications.rankedBySearch(filter.search());
+    } else if (hasText(filter.merchantName())) {
+      ranking = TransactionSpecifications.rankedByMerchant(filter.merchantName());
     }
-    if (maxAmount != null) {
-      spec = spec.and(TransactionSpecifications.amountMax(maxAmount));
+
+    int offsetPage = Math.max(page - 1, 0);
+    Pageable pageable = ranking != null
+        ? PageRequest.of(offsetPage, clampLimit(limit))
+        : PageRequest.of(offsetPage, clampLimit(limit), NEWEST_FIRST);
+    Slice<T> slice = findSlice.apply(ranking != null ? spec.and(ranking) : spec, pageable);
+
+    // On the last page the total is known without counting
+    long seen = pageable.getOffset() + slice.getNumberOfElements();
+    boolean totalKnown = !slice.hasNext() && (slice.hasContent() || pageable.getOffset() == 0);
+
+    Long total = switch (totalMode) {
+      case NONE -> null;
+      case EXACT -> totalKnown ? seen : countCache.get(userId, filter, () -> transactionRepository.count(spec));
+      case ESTIMATE -> totalKnown
+          ? seen
+          : Math.max(transactionQueries.estimateCount(userId, filter), seen + (slice.hasNext() ? 1 : 0));
+    };
+    boolean estimated = totalMode == TotalMode.ESTIMATE && !totalKnown;
+    return new TransactionPage<>(slice.getContent(), total, estimated, slice.hasNext());
+  }
+
+  /**
+   * Keyset pagination: returns the page after {@code cursor} (the first page when it is blank) in
+   * (date desc, id desc) order. Each page is an index seek, however deep, and rows inserted by a
+   * running sync never shift later pages.
+   */
+  public CursorPage<Transaction> getTransactionsAfter(String userId, TransactionFilter filter, String cursor, int limit) {
+    int pageSize = clampLimit(limit);
+    // One extra row tells whether there is a next page without a count query
+    List<Transaction> rows = transactionRepository.findBy(keysetSpecification(userId, filter, cursor),
+        query -> query.sortBy(NEWEST_FIRST).limit(pageSize + 1).all());
+    if (rows.size() <= pageSize) {
+      return new CursorPage<>(rows, null);
     }
-    if (excludeTransfers) {
-      spec = spec.and(TransactionSpecifications.excludeTransfers());
+    List<Transaction> content = rows.subList(0, pageSize);
+    return new CursorPage<>(content, TransactionCursor.after(content.get(pageSize - 1)).encode());
+  }
+
+  /**
+   * Keyset pagination returning only the requested {@code fields} of each row.
+   */
+  public CursorPage<Map<String, Object>> getTransactionsAfter(String userId,
+                                                              TransactionFilter filter,
+                                                              String cursor,
+                                                              int limit,
+                                                              TransactionFields fields) {
+    int pageSize = clampLimit(limit);
+    Slice<Tuple> rows = transactionQueries.findSlice(keysetSpecification(userId, filter, cursor),
+        PageRequest.of(0, pageSize, NEWEST_FIRST), fields);
+    List<Map<String, Object>> content = rows.getContent().stream().map(fields::toMap).toList();
+    if (!rows.hasNext()) {
+      return new CursorPage<>(content, null);
     }
-    if (onlyRecurring) {
-      spec = spec.and(TransactionSpecifications.onlyRecurring());
+    Tuple last = rows.getContent().get(pageSize - 1);
+    TransactionCursor next = new TransactionCursor(last.get("date", LocalDate.class), last.get("id", Long.class));
+    return new CursorPage<>(content, next.encode());
+  }
+
+  private Specification<Transaction> keysetSpecification(String userId, TransactionFilter filter, String cursor) {
+    Specification<Transaction> spec = TransactionSpecifications.forFilter(userId, filter);
+    if (cursor != null && !cursor.isBlank()) {
+      TransactionCursor position = TransactionCursor.decode(cursor);
+      spec = spec.and(TransactionSpecifications.after(position.date(), position.id()));
     }
+    return spec;
+  }
+
+  private static boolean hasText(String value) {
+    return value != null && !value.isBlank();
+  }
 
-    Pageable pageable = PageRequest.of(Math.max(page - 1, 0), Math.min(limit, 500));
-    return transactionRepository.findAll(spec, pageable);
+  private static int clampLimit(int limit) {
+    return Math.max(1, Math.min(limit, 500));
   }
 
   public Transaction create(String userId, TransactionRequests.CreateRequest request) {
@@ -94,21 +226,27 @@ public class TransactionService {
     }
     transaction.setRecurring(Boolean.TRUE.equals(request.isRecurring));
     transaction.setExcludedFromBudget(Boolean.TRUE.equals(request.isExcludedFromBudget));
-    return transactionRepository.save(transaction);
+    Transaction saved = transactionRepository.save(transaction);
+    versions.invalidate(userId);
+    return saved;
   }
 
   public Transaction updateById(Long id, TransactionRequests.UpdateRequest request) {
     Transaction transaction = transactionRepository.findById(id)
         .orElseThrow(() -> new IllegalArgumentException("Transaction not found"));
     applyUpdate(transaction, request);
-    return transactionRepository.save(transaction);
+    Transaction saved = transactionRepository.save(transaction);
+    versions.invalidate(saved.getUserId());
+    return saved;
   }
 
   public Transaction updateByPlaidId(String plaidId, TransactionRequests.UpdateRequest request) {
     Transaction transaction = transactionRepository.findByPlaidId(plaidId)
         .orElseThrow(() -> new IllegalArgumentException("Transaction not found"));
     applyUpdate(transaction, request);
-    return transactionRepository.save(transaction);
+    Transaction saved = transactionRepository.save(transaction);
+    versions.invalidate(saved.getUserId());
+    return saved;
   }
 
   public Transaction getByPlaidId(String plaidId) {
@@ -117,7 +255,10 @@ public class TransactionService {
   }
 
   public void deleteByPlaidId(String plaidId) {
-    transactionRepository.deleteByPlaidId(plaidId);
+    transactionRepository.findByPlaidId(plaidId).ifPresent(transaction -> {
+      transactionRepository.delete(transaction);
+      versions.invalidate(transaction.getUserId());
+    });
   }
 
   private void applyUpdate(Transaction transaction, TransactionRequests.UpdateRequest request) {
@@ -142,4 +283,29 @@ public class TransactionService {
       transaction.setExcludedFromBudget(request.isExcludedFromBudget);
     }
   }
+
+  public enum TotalMode {
+    EXACT, ESTIMATE, NONE;
+
+    public static TotalMode from(String value) {
+      for (TotalMode mode : values()) {
+        if (mode.name().equalsIgnoreCase(value)) {
+          return mode;
+        }
+      }
+      throw new IllegalArgumentException("total must be one of exact, estimate, none");
+    }
+  }
+
+  /**
+   * @param total null when not requested
+   * @param totalEstimated whether {@code total} is a planner estimate
+   */
+  public record TransactionPage<T>(List<T> content, Long total, boolean totalEstimated, boolean hasNext) {}
+
+  public record CursorPage<T>(List<T> content, String nextCursor) {
+    public boolean hasNext() {
+      return nextCursor != null;
+    }
+  }
 }
@@ -1,11 +1,64 @@
 package com.fintrack.transactions;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.util.List;
 
 public class TransactionSpecifications {
+  /**
+   * The user's rows matching {@code filter}; ranking and paging are applied separately.
+   */
+  public static Specification<Transaction> forFilter(String userId, TransactionFilter filter) {
+    Specification<Transaction> spec = Specification.where(userId(userId));
+
+    LocalDate startDate = filter.startDate();
+    LocalDate endDate = filter.endDate();
+    if (startDate != null && endDate != null) {
+      spec = spec.and(dateBetween(startDate, endDate));
+    } else if (startDate != null) {
+      spec = spec.and(dateAfter(startDate));
+    } else if (endDate != null) {
+      spec = spec.and(dateBefore(endDate));
+    }
+
+    if (filter.categories() != null && !filter.categories().isEmpty()) {
+      spec = spec.and(categories(filter.categories()));
+    }
+    if (filter.accountTypes() != null && !filter.accountTypes().isEmpty()) {
+      spec = spec.and(accountTypes(filter.accountTypes()));
+    }
+    if (filter.transactionTypes() != null && !filter.transactionTypes().isEmpty()) {
+      spec = spec.and(transactionTypes(filter.transactionTypes()));
+    }
+    if (hasText(filter.merchantName())) {
+      spec = spec.and(filter.fuzzy()
+          ? merchantNameSimilar(filter.merchantName())
+          : merchantNameLike(filter.merchantName()));
+    }
+    if (hasText(filter.search())) {
+      spec = spec.and(filter.fuzzy()
+          ? searchSimilar(filter.search())
+          : searchLike(filter.search()));
+    }
+    if (filter.minAmount() != null) {
+      spec = spec.and(amountMin(filter.minAmount()));
+    }
+    if (filter.maxAmount() != null) {
+      spec = spec.and(amountMax(filter.maxAmount()));
+    }
+    if (filter.excludeTransfers()) {
+      spec = spec.and(excludeTransfers());
+    }
+    if (filter.onlyRecurring()) {
+      spec = spec.and(onlyRecurring());
+    }
+    return spec;
+  }
+
   public static Specification<Transaction> userId(String userId) {
     return (root, query, cb) -> cb.equal(root.get("userId"), userId);
   }
@@ -36,12 +89,55 @@ public class TransactionSpecifications {
 
   public static Specification<Transaction> merchantNameLike(String merchantName) {
     return (root, query, cb) ->
-        cb.like(cb.lower(root.get("merchantName")), "%" + merchantName.toLowerCase() + "%");
+        cb.like(lowerMerchant(root, cb), "%" + merchantName.toLowerCase() + "%");
+  }
+
+  /**
+   * Typo-tolerant merchant match (pg_trgm word similarity).
+   */
+  public static Specification<Transaction> merchantNameSimilar(String merchantName) {
+    return (root, query, cb) -> cb.isTrue(
+        cb.function("trgm_word_match", Boolean.class, cb.literal(merchantName.toLowerCase()), lowerMerchant(root, cb)));
   }
 
-  public static Specification<Transaction> nameLike(String search) {
+  /**
+   * Substring match over name, merchant name and description.
+   */
+  public static Specification<Transaction> searchLike(String search) {
     return (root, query, cb) ->
-        cb.like(cb.lower(root.get("name")), "%" + search.toLowerCase() + "%");
+        cb.like(searchText(root, cb), "%" + search.toLowerCase() + "%");
+  }
+
+  /**
+   * Typo-tolerant match over name, merchant name and description (pg_trgm word similarity).
+   */
+  public static Specification<Transaction> searchSimilar(String search) {
+    return (root, query, cb) -> cb.isTrue(
+        cb.function("trgm_word_match", Boolean.class, cb.literal(search.toLowerCase()), searchText(root, cb)));
+  }
+
+  /**
+   * Orders by relevance to {@code term} (best first, then newest). Applies no filter; a paging sort
+   * passed alongside would replace this order.
+   */
+  public static Specification<Transaction> rankedBySearch(String term) {
+    return (root, query, cb) -> {
+      query.orderBy(
+          cb.desc(similarity(term, searchText(root, cb), cb)),
+          cb.desc(root.get("date")),
+          cb.desc(root.get("id")));
+      return null;
+    };
+  }
+
+  public static Specification<Transaction> rankedByMerchant(String term) {
+    return (root, query, cb) -> {
+      query.orderBy(
+          cb.desc(similarity(term, lowerMerchant(root, cb), cb)),
+          cb.desc(root.get("date")),
+          cb.desc(root.get("id")));
+      return null;
+    };
   }
 
   public static Specification<Transaction> amountMin(double minAmount) {
@@ -59,4 +155,32 @@ public class TransactionSpecifications {
   public static Specification<Transaction> onlyRecurring() {
     return (root, query, cb) -> cb.isTrue(root.get("isRecurring"));
   }
+
+  /**
+   * Rows after ({@code date}, {@code id}) in (date desc, id desc) order.
+   */
+  public static Specification<Transaction> after(LocalDate date, long id) {
+    return (root, query, cb) -> cb.or(
+        cb.lessThan(root.get("date"), date),
+        cb.and(cb.equal(root.get("date"), date), cb.lessThan(root.get("id"), id)));
+  }
+
+  private static boolean hasText(String value) {
+    return value != null && !value.isBlank();
+  }
+
+  // These expressions must match the trigram index definitions in V4/V5 exactly
+
+  private static Expression<String> searchText(Root<Transaction> root, CriteriaBuilder cb) {
+    return cb.function("transaction_search_text", String.class,
+        root.get("name"), root.get("merchantName"), root.get("description"));
+  }
+
+  private static Expression<String> lowerMerchant(Root<Transaction> root, CriteriaBuilder cb) {
+    return cb.lower(root.get("merchantName"));
+  }
+
+  private static Expression<Double> similarity(String term, Expression<String> text, CriteriaBuilder cb) {
+    return cb.function("word_similarity", Double.class, cb.literal(term.toLowerCase()), text);
+  }
 }
@@ -0,0 +1,50 @@
+package com.fintrack.transactions;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A per-user version of the user's transactions, bumped by every write. Caches of transaction reads
+ * put the version in their keys, so one write makes all of that user's cached results unreachable
+ * (they age out) without touching other users' entries.
+ */
+@Component
+public class TransactionVersions {
+  private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+  /**
+   * Read before computing a cached value: a write that lands meanwhile moves readers to a new key.
+   */
+  public long current(String userId) {
+    return version(userId).get();
+  }
+
+  /**
+   * Bumps the user's version, after the surrounding transaction completes if there is one (before
+   * that, other readers still see the old rows).
+   */
+  public void invalidate(String userId) {
+    if (userId == null) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          version(userId).incrementAndGet();
+        }
+      });
+    } else {
+      version(userId).incrementAndGet();
+    }
+  }
+
+  private AtomicLong version(String userId) {
+    return versions.computeIfAbsent(userId, id -> new AtomicLong());
+  }
+}
@@ -1,59 +1,67 @@
 package com.fintrack.transactions.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fintrack.transactions.Transaction;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
-public class TransactionDto {
-  public Long id;
-  public String plaidId;
-  public String name;
-  public double amount;
-  public Double normalizedAmount;
-  public LocalDate date;
-  public String category;
-  public String merchantName;
-  public String transactionType;
-  public String accountType;
-  public String accountSubtype;
-  public boolean isRecurring;
-  public boolean isExcludedFromBudget;
-  public boolean categoryCorrected;
-  public String categorySource;
-  public Double confidence;
-  public String description;
-  public List<String> tags;
-  public Long plaidItemId;
-  public Long plaidAccountId;
-  public Instant createdAt;
-  public Instant updatedAt;
+/**
+ * A transaction as the API returns it. Immutable, so list pages can be cached and shared between
+ * requests.
+ */
+public record TransactionDto(Long id,
+                             String plaidId,
+                             String name,
+                             double amount,
+                             Double normalizedAmount,
+                             LocalDate date,
+                             String category,
+                             String merchantName,
+                             String transactionType,
+                             String accountType,
+                             String accountSubtype,
+                             // Named explicitly: bean naming would drop the "is" of boolean accessors
+                             @JsonProperty("isRecurring") boolean isRecurring,
+                             @JsonProperty("isExcludedFromBudget") boolean isExcludedFromBudget,
+                             boolean categoryCorrected,
+                             String categorySource,
+                             Double confidence,
+                             String description,
+                             List<String> tags,
+                             Long plaidItemId,
+                             Long plaidAccountId,
+                             Instant createdAt,
+                             Instant updatedAt) {
+  public TransactionDto {
+    tags = tags != null ? List.copyOf(tags) : null;
+  }
 
   public static TransactionDto from(Transaction transaction) {
-    TransactionDto dto = new TransactionDto();
-    dto.id = transaction.getId();
-    dto.plaidId = transaction.getPlaidId();
-    dto.name = transaction.getName();
-    dto.amount = transaction.getAmount();
-    dto.normalizedAmount = transaction.getNormalizedAmount();
-    dto.date = transaction.getDate();
-    dto.category = transaction.getCategory();
-    dto.merchantName = transaction.getMerchantName();
-    dto.transactionType = transaction.getTransactionType();
-    dto.accountType = transaction.getAccountType();
-    dto.accountSubtype = transaction.getAccountSubtype();
-    dto.isRecurring = transaction.isRecurring();
-    dto.isExcludedFromBudget = transaction.isExcludedFromBudget();
-    dto.categoryCorrected = transaction.isCategoryCorrected();
-    dto.categorySource = transaction.getCategorySource();
-    dto.confidence = transaction.getConfidence();
-    dto.description = transaction.getDescription();
-    dto.tags = transaction.getTags();
-    dto.plaidItemId = transaction.getPlaidItemId();
-    dto.plaidAccountId = transaction.getPlaidAccountId();
-    dto.createdAt = transaction.getCreatedAt();
-    dto.updatedAt = transaction.getUpdatedAt();
-    return dto;
+    return new TransactionDto(
+        transaction.getId(),
+        transaction.getPlaidId(),
+        transaction.getName(),
+        transaction.getAmount(),
+        transaction.getNormalizedAmount(),
+        transaction.getDate(),
+        transaction.getCategory(),
+        transaction.getMerchantName(),
+        transaction.getTransactionType(),
+        transaction.getAccountType(),
+        transaction.getAccountSubtype(),
+        transaction.isRecurring(),
+        transaction.isExcludedFromBudget(),
+        transaction.isCategoryCorrected(),
+        transaction.getCategorySource(),
+        transaction.getConfidence(),
+        transaction.getDescription(),
+        transaction.getTags(),
+        transaction.getPlaidItemId(),
+        transaction.getPlaidAccountId(),
+        transaction.getCreatedAt(),
+        transaction.getUpdatedAt()
+    );
   }
 }
@@ -1,6 +1,10 @@
 package com.fintrack.users;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -8,4 +12,28 @@ public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByAuth0Id(String auth0Id);
   Optional<User> findByUsername(String username);
   Optional<User> findByEmail(String email);
+
+  /**
+   * Creates the user for an identity-provider subject, or fills in name, email and avatar where the
+   * existing row has none. Concurrent first requests for one subject both succeed.
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      insert into users (auth0_id, username, email, name, avatar, created_at, updated_at)
+      values (:auth0Id, :username, :email, :name, :avatar, now(), now())
+      on conflict (auth0_id) do update set
+        name = coalesce(nullif(users.name, ''), excluded.name),
+        email = coalesce(nullif(users.email, ''), excluded.email),
+        avatar = coalesce(nullif(users.avatar, ''), excluded.avatar),
+        updated_at = now()
+      where (nullif(users.name, '') is null and excluded.name is not null)
+         or (nullif(users.email, '') is null and excluded.email is not null)
+         or (nullif(users.avatar, '') is null and excluded.avatar is not null)
+      """, nativeQuery = true)
+  int provision(@Param("auth0Id") String auth0Id,
+                @Param("username") String username,
+                @Param("email") String email,
+                @Param("name") String name,
+                @Param("avatar") String avatar);
 }
@@ -0,0 +1,61 @@
+-- Rollup writes no longer take a per-user advisory lock (V8). That lock serialized every page
+-- transaction of a user's concurrently syncing items until commit, even when they touched different
+-- days. Now only transactions that touch the same rollup rows contend: each statement upserts its
+-- rows in key order and only deletes rows it touched itself. A deadlock remains possible across the
+-- statements of one page transaction; PlaidService re-runs the page when Postgres aborts it.
+
+create or replace function apply_transaction_rollup_delta() returns trigger
+language plpgsql as $$
+declare
+  changes transaction_rollup_change[] := '{}';
+begin
+  -- Each trigger only has the transition tables for its own event
+  if tg_op in ('INSERT', 'UPDATE') then
+    changes := changes || array(
+      select row(user_id, date, category, transaction_type, account_type, is_excluded_from_budget,
+                 coalesce(normalized_amount, abs(amount), 0)::numeric, 1)::transaction_rollup_change
+      from new_rows);
+  end if;
+  if tg_op in ('UPDATE', 'DELETE') then
+    changes := changes || array(
+      select row(user_id, date, category, transaction_type, account_type, is_excluded_from_budget,
+                 -coalesce(normalized_amount, abs(amount), 0)::numeric, -1)::transaction_rollup_change
+      from old_rows);
+  end if;
+
+  -- Rows are locked in key order, so two statements touching overlapping rows can't deadlock
+  insert into transaction_daily_rollups as r
+    (user_id, date, category, transaction_type, account_type, is_excluded_from_budget, amount, transaction_count)
+  select user_id,
+         date,
+         coalesce(category, ''),
+         coalesce(transaction_type, ''),
+         coalesce(account_type, ''),
+         coalesce(is_excluded_from_budget, false),
+         sum(amount),
+         sum(transaction_count)
+  from unnest(changes)
+  where user_id is not null and date is not null
+  group by 1, 2, 3, 4, 5, 6
+  -- Updates that touch no rolled-up column net out to nothing
+  having sum(amount) <> 0 or sum(transaction_count) <> 0
+  order by 1, 2, 3, 4, 5, 6
+  on conflict (user_id, date, category, transaction_type, account_type, is_excluded_from_budget)
+  do update set amount = r.amount + excluded.amount,
+                transaction_count = r.transaction_count + excluded.transaction_count;
+
+  -- Only rows this statement just emptied, which it already holds locks on
+  delete from transaction_daily_rollups
+  where transaction_count = 0
+    and (user_id, date, category, transaction_type, account_type, is_excluded_from_budget) in (
+      select user_id,
+             date,
+             coalesce(category, ''),
+             coalesce(transaction_type, ''),
+             coalesce(account_type, ''),
+             coalesce(is_excluded_from_budget, false)
+      from unnest(changes)
+      where user_id is not null and date is not null);
+  return null;
+end;
+$$;
@@ -0,0 +1,3 @@
+-- Let Hibernate allocate transaction ids in blocks of 50 (pooled optimizer) so inserts can be JDBC-batched.
+-- Plain SQL inserts keep using the column default and simply consume one value per row.
+alter sequence transactions_id_seq increment by 50;
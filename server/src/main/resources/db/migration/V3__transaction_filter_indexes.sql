@@ -0,0 +1,35 @@
+-- Indexes for the filter shapes GET /api/transactions exposes. Every list query is scoped to one
+-- user and ordered by (date desc, id desc), so each index leads with user_id and ends in date order
+-- where it can, letting Postgres read a page straight off the index without sorting.
+--
+-- Built concurrently so existing databases keep accepting sync writes; Flyway runs these
+-- statements outside a transaction. Concurrent builds wait for every older open transaction, so
+-- Flyway is configured to hold a session-level advisory lock rather than a lock transaction
+-- (spring.flyway.postgresql.transactional-lock=false); its default would make them wait forever.
+
+-- Default listing, keyset pages and date ranges
+create index concurrently if not exists idx_transactions_user_date
+  on transactions (user_id, date desc, id desc);
+
+-- The composite index above serves every user_id lookup
+drop index concurrently if exists idx_transactions_user_id;
+
+-- category / accountType / transactionType filters (optionally with a date range)
+create index concurrently if not exists idx_transactions_user_category_date
+  on transactions (user_id, category, date desc, id desc);
+
+create index concurrently if not exists idx_transactions_user_account_type_date
+  on transactions (user_id, account_type, date desc, id desc);
+
+create index concurrently if not exists idx_transactions_user_type_date
+  on transactions (user_id, transaction_type, date desc, id desc);
+
+-- minAmount / maxAmount. A range on amount can't return rows in date order from any btree, so these
+-- pages sort the matching rows (a top-N sort); the index narrows them to the user's amount range.
+create index concurrently if not exists idx_transactions_user_amount
+  on transactions (user_id, amount);
+
+-- onlyRecurring: a small slice of rows, so only those are indexed
+create index concurrently if not exists idx_transactions_user_recurring_date
+  on transactions (user_id, date desc, id desc)
+  where is_recurring;
@@ -0,0 +1,14 @@
+-- Text search over transactions. pg_trgm lets GIN indexes serve substring (LIKE '%term%') and
+-- typo-tolerant (<%) matches; the indexes themselves are built concurrently in V5.
+create extension if not exists pg_trgm;
+
+-- The text `search` matches against. Immutable so it can be indexed; queries must call it with the
+-- same arguments for the planner to use that index.
+create or replace function transaction_search_text(name text, merchant_name text, description text)
+  returns text
+  language sql
+  immutable
+  parallel safe
+as $$
+  select lower(coalesce($1, '') || ' | ' || coalesce($2, '') || ' | ' || coalesce($3, ''))
+$$;
@@ -0,0 +1,6 @@
+-- Trigram indexes for the `search` and `merchantName` filters (see V4)
+create index concurrently if not exists idx_transactions_search_trgm
+  on transactions using gin (transaction_search_text(name, merchant_name, description) gin_trgm_ops);
+
+create index concurrently if not exists idx_transactions_merchant_trgm
+  on transactions using gin (lower(merchant_name) gin_trgm_ops);
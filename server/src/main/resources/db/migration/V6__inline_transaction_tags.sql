@@ -0,0 +1,15 @@
+-- Tags move from the transaction_tags collection table into a text[] column on transactions, so a
+-- page of transactions (and its tags) is read with one query and sync upserts never touch tags.
+alter table transactions add column if not exists tags text[] not null default '{}';
+
+update transactions t
+set tags = s.tags
+from (
+  select transaction_id, array_agg(tags) as tags
+  from transaction_tags
+  where tags is not null
+  group by transaction_id
+) s
+where s.transaction_id = t.id;
+
+drop table if exists transaction_tags;
@@ -0,0 +1,3 @@
+-- Tag lookups (tags @> array['x']) on the inline column from V6
+create index concurrently if not exists idx_transactions_tags
+  on transactions using gin (tags);
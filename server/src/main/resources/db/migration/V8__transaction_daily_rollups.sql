@@ -0,0 +1,124 @@
+-- Per-day spending rollups, so range aggregates (the dashboard summary) read a few rows per day
+-- instead of every transaction in the range.
+--
+-- Kept current by statement-level triggers on transactions, so every write path (sync upserts and
+-- deletes, manual creates, updates and deletes) adjusts the rollup in the same transaction, once per
+-- statement rather than once per row. is_excluded_from_budget is part of the key so budget views can
+-- leave those rows out. Null dimensions are stored as '' so they can be part of the primary key.
+-- amount sums coalesce(normalized_amount, abs(amount)) as numeric so incremental +/- stays exact.
+
+create table if not exists transaction_daily_rollups (
+  user_id varchar(64) not null,
+  date date not null,
+  category varchar(255) not null,
+  transaction_type varchar(64) not null,
+  account_type varchar(64) not null,
+  is_excluded_from_budget boolean not null,
+  amount numeric not null,
+  transaction_count bigint not null,
+  primary key (user_id, date, category, transaction_type, account_type, is_excluded_from_budget)
+);
+
+-- Rows whose transactions all went away are removed after each change
+create index if not exists idx_transaction_daily_rollups_empty
+  on transaction_daily_rollups (user_id)
+  where transaction_count = 0;
+
+-- One transaction's contribution to its rollup row (negated when it leaves the row)
+create type transaction_rollup_change as (
+  user_id varchar(64),
+  date date,
+  category varchar(255),
+  transaction_type varchar(64),
+  account_type varchar(64),
+  is_excluded_from_budget boolean,
+  amount numeric,
+  transaction_count bigint
+);
+
+create or replace function apply_transaction_rollup_delta() returns trigger
+language plpgsql as $$
+declare
+  changes transaction_rollup_change[] := '{}';
+begin
+  -- Each trigger only has the transition tables for its own event
+  if tg_op in ('INSERT', 'UPDATE') then
+    changes := changes || array(
+      select row(user_id, date, category, transaction_type, account_type, is_excluded_from_budget,
+                 coalesce(normalized_amount, abs(amount), 0)::numeric, 1)::transaction_rollup_change
+      from new_rows);
+  end if;
+  if tg_op in ('UPDATE', 'DELETE') then
+    changes := changes || array(
+      select row(user_id, date, category, transaction_type, account_type, is_excluded_from_budget,
+                 -coalesce(normalized_amount, abs(amount), 0)::numeric, -1)::transaction_rollup_change
+      from old_rows);
+  end if;
+
+  -- A sync page writes several statements (upsert, delete), each adjusting rollup rows, and holds
+  -- those row locks until it commits; pages of one user's items sync concurrently. Ordering within a
+  -- statement can't prevent a deadlock across statements, so rollup writes for a user are serialized
+  -- per transaction instead, taking the user locks in a fixed order.
+  perform pg_advisory_xact_lock(hashtext('transaction_daily_rollups'), hashtext(u.user_id))
+  from (select distinct user_id from unnest(changes) where user_id is not null order by 1) u;
+
+  insert into transaction_daily_rollups as r
+    (user_id, date, category, transaction_type, account_type, is_excluded_from_budget, amount, transaction_count)
+  select user_id,
+         date,
+         coalesce(category, ''),
+         coalesce(transaction_type, ''),
+         coalesce(account_type, ''),
+         coalesce(is_excluded_from_budget, false),
+         sum(amount),
+         sum(transaction_count)
+  from unnest(changes)
+  where user_id is not null and date is not null
+  group by 1, 2, 3, 4, 5, 6
+  -- Updates that touch no rolled-up column net out to nothing
+  having sum(amount) <> 0 or sum(transaction_count) <> 0
+  order by 1, 2, 3, 4, 5, 6
+  on conflict (user_id, date, category, transaction_type, account_type, is_excluded_from_budget)
+  do update set amount = r.amount + excluded.amount,
+                transaction_count = r.transaction_count + excluded.transaction_count;
+
+  delete from transaction_daily_rollups
+  where transaction_count = 0
+    and user_id in (select user_id from unnest(changes));
+  return null;
+end;
+$$;
+
+-- Writers wait until the rollup is seeded and the triggers exist, so no change is missed
+lock table transactions in share row exclusive mode;
+
+insert into transaction_daily_rollups
+  (user_id, date, category, transaction_type, account_type, is_excluded_from_budget, amount, transaction_count)
+select user_id,
+       date,
+       coalesce(category, ''),
+       coalesce(transaction_type, ''),
+       coalesce(account_type, ''),
+       coalesce(is_excluded_from_budget, false),
+       sum(coalesce(normalized_amount, abs(amount), 0)::numeric),
+       count(*)
+from transactions
+where user_id is not null and date is not null
+group by 1, 2, 3, 4, 5, 6
+on conflict do nothing;
+
+-- Transition tables allow one event per trigger
+create trigger transactions_rollup_insert
+  after insert on transactions
+  referencing new table as new_rows
+  for each statement execute function apply_transaction_rollup_delta();
+
+create trigger transactions_rollup_update
+  after update on transactions
+  referencing old table as old_rows new table as new_rows
+  for each statement execute function apply_transaction_rollup_delta();
+
+create trigger transactions_rollup_delete
+  after delete on transactions
+  referencing old table as old_rows
+  for each statement execute function apply_transaction_rollup_delta();
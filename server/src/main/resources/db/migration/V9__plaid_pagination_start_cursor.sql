@@ -0,0 +1,6 @@
+-- The cursor an item's current transactions/sync update began from. cursor advances with every
+-- committed page, but a TRANSACTIONS_SYNC_MUTATION_DURING_PAGINATION restart must go back to where
+-- the update started, even when that update was begun by an earlier, interrupted sync.
+-- '' marks an update that began without a cursor (the item's first sync); null means no update is
+-- in progress.
+alter table plaid_items add column if not exists pagination_start_cursor text;